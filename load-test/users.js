@@ -0,0 +1,74 @@
+// k6 load test for the user read/write paths.
+// Run the same script against both threading modes and compare p95/p99 and throughput:
+//   VIRTUAL_THREADS_ENABLED=false mvn spring-boot:run   ->  k6 run load-test/users.js
+//   VIRTUAL_THREADS_ENABLED=true  mvn spring-boot:run   ->  k6 run load-test/users.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/v1';
+const SEED_USERS = Number(__ENV.SEED_USERS || 200);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            exec: 'reads',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '2m', target: 1000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+        writes: {
+            executor: 'constant-arrival-rate',
+            exec: 'writes',
+            rate: 20,
+            timeUnit: '1s',
+            duration: '3m',
+            preAllocatedVUs: 50,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:reads}': ['p(95)<500', 'p(99)<1000'],
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+const headers = { 'Content-Type': 'application/json' };
+
+function newUser(prefix) {
+    const suffix = `${Date.now()}${Math.floor(Math.random() * 1e6)}`;
+    return JSON.stringify({
+        username: `${prefix}_${suffix}`,
+        email: `${prefix}_${suffix}@loadtest.local`,
+        password: 'Password@123',
+        firstName: 'Load',
+        lastName: 'Test',
+    });
+}
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < SEED_USERS; i++) {
+        const res = http.post(`${BASE_URL}/users`, newUser('seed'), { headers });
+        if (res.status === 201) {
+            ids.push(res.json('data.id'));
+        }
+    }
+    return { ids };
+}
+
+export function reads(data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const byId = http.get(`${BASE_URL}/users/${id}`, { tags: { name: 'GET /users/{id}' } });
+    check(byId, { 'get by id 200': (r) => r.status === 200 });
+    
+    const page = http.get(`${BASE_URL}/users?size=20&withCount=false&after=`, { tags: { name: 'GET /users' } });
+    check(page, { 'list 200': (r) => r.status === 200 });
+}
+
+export function writes() {
+    const res = http.post(`${BASE_URL}/users`, newUser('lt'), { headers, tags: { name: 'POST /users' } });
+    check(res, { 'create 201 or 503': (r) => r.status === 201 || r.status === 503 });
+}
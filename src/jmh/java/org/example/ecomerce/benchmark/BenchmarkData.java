@@ -0,0 +1,68 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.EcomerceApplication;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+    
+    private BenchmarkData() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    static User user(long id) {
+        User user = User.builder()
+                .username("user_" + id)
+                .email("user_" + id + "@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8hA/6yS5ZxqgLDj6F2RyS0e")
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .phone("0901234567")
+                .avatar("https://cdn.example.com/avatars/" + id + ".png")
+                .role(User.Role.USER)
+                .status(User.UserStatus.ACTIVE)
+                .emailVerified(true)
+                .build();
+        user.setId(id);
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        user.setUpdatedAt(LocalDateTime.of(2025, 6, 1, 10, 0));
+        return user;
+    }
+    
+    /**
+     * Starts the application on the dev profile (in-memory H2) without a web server and seeds
+     * {@code userCount} users through the repository. The password is pre-encoded, so seeding
+     * pays no hashing cost.
+     */
+    static ConfigurableApplicationContext startApplication(int userCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EcomerceApplication.class)
+                .profiles("dev")
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.example.ecomerce=WARN")
+                .run();
+        
+        List<User> users = users(userCount);
+        users.forEach(user -> user.setId(null));
+        context.getBean(UserRepository.class).saveAll(users);
+        return context;
+    }
+    
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            users.add(user(id));
+        }
+        return users;
+    }
+}
+
@@ -0,0 +1,108 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.common.response.ApiResponse;
+import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of the response envelopes returned by the user endpoints, with reflective
+ * and Blackbird property access, plus the gzip step applied by server.compression.
+ * serializePageGzip also reports the raw and gzip size of one page (bytes on the wire) as the
+ * {@code rawBytes} and {@code gzipBytes} secondary results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    
+    @Param({"10", "100"})
+    private int pageSize;
+    
+    @Param({"reflection", "blackbird"})
+    private String accessors;
+    
+    private JsonMapper jsonMapper;
+    private ApiResponse<UserResponse> single;
+    private ApiResponse<PageResponse<UserResponse>> page;
+    
+    @Setup
+    public void setUp() {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        if ("blackbird".equals(accessors)) {
+            builder.addModule(new BlackbirdModule());
+        }
+        jsonMapper = builder.build();
+        
+        UserMapperImpl userMapper = new UserMapperImpl();
+        List<UserResponse> content = userMapper.toResponseList(BenchmarkData.users(pageSize));
+        single = ApiResponse.success(content.getFirst());
+        page = ApiResponse.success(PageResponse.of(
+                new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000)));
+    }
+    
+    @Benchmark
+    public byte[] serializeUser() {
+        return jsonMapper.writeValueAsBytes(single);
+    }
+    
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+    
+    @Benchmark
+    public byte[] serializePageGzip(PayloadSize size) {
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+        byte[] compressed = gzip(json);
+        size.rawBytes = json.length;
+        size.gzipBytes = compressed.length;
+        return compressed;
+    }
+    
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+    
+    // Assigned rather than accumulated, so each iteration reports the size of a single page
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        
+        public long rawBytes;
+        public long gzipBytes;
+    }
+}
+
@@ -0,0 +1,43 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.common.util.SlugNormalizer;
+import org.example.ecomerce.common.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+    
+    @Param({
+            "Wireless Mouse M185",
+            "Áo thun nam cổ tròn tay ngắn màu xanh",
+            "Samsung Galaxy S24 Ultra 512GB - Titanium Black (Chính hãng)"
+    })
+    private String input;
+    
+    @Benchmark
+    public String toSlug() {
+        return StringUtil.toSlug(input);
+    }
+    
+    @Benchmark
+    public String slugNormalizer() {
+        return SlugNormalizer.normalize(input);
+    }
+}
+
@@ -0,0 +1,75 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.config.ModelMapperConfig;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.mapper.UserMapper;
+import org.example.ecomerce.module.user.mapper.UserMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective ModelMapper path (STRICT matching, as configured in
+ * {@link ModelMapperConfig}) with the generated MapStruct {@link UserMapper}.
+ * Run with {@code -prof gc} to compare allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+    
+    @Param({"10", "100"})
+    private int pageSize;
+    
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private User user;
+    private List<User> page;
+    
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapperConfig().modelMapper();
+        userMapper = new UserMapperImpl();
+        user = BenchmarkData.user(1);
+        page = BenchmarkData.users(pageSize);
+    }
+    
+    @Benchmark
+    public UserResponse modelMapperSingle() {
+        return modelMapper.map(user, UserResponse.class);
+    }
+    
+    @Benchmark
+    public UserResponse mapStructSingle() {
+        return userMapper.toResponse(user);
+    }
+    
+    @Benchmark
+    public List<UserResponse> modelMapperPage() {
+        return page.stream()
+                .map(entity -> modelMapper.map(entity, UserResponse.class))
+                .toList();
+    }
+    
+    @Benchmark
+    public List<UserResponse> mapStructPage() {
+        return userMapper.toResponseList(page);
+    }
+}
+
@@ -0,0 +1,79 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.mapper.UserMapper;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity page versus {@code UserView} projection page, each mapped to {@link UserResponse}
+ * inside a read-only transaction as in {@code UserService.getAllUsers}. Run with
+ * {@code -prof gc} and compare {@code gc.alloc.rate.norm} for the bytes allocated per page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserProjectionBenchmark {
+    
+    private static final int USER_COUNT = 2_000;
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserMapper userMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private PageRequest pageRequest;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.startApplication(USER_COUNT);
+        userRepository = context.getBean(UserRepository.class);
+        userMapper = context.getBean(UserMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        pageRequest = PageRequest.of(1, pageSize, Sort.by("id"));
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<UserResponse> entityPage() {
+        return readOnlyTransaction.execute(status ->
+                userMapper.toResponseList(userRepository.findAll(pageRequest).getContent()));
+    }
+    
+    @Benchmark
+    public List<UserResponse> projectionPage() {
+        return readOnlyTransaction.execute(status -> userRepository.findAllProjectedBy(pageRequest)
+                .map(userMapper::toResponse)
+                .getContent());
+    }
+}
+
@@ -0,0 +1,83 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.example.ecomerce.module.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link UserService} read path against the in-memory H2 database of the dev profile:
+ * repository query, entity mapping and the user cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+    
+    private static final int USER_COUNT = 5_000;
+    private static final int PAGE_SIZE = 20;
+    
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private List<Long> ids;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.startApplication(USER_COUNT);
+        userService = context.getBean(UserService.class);
+        ids = context.getBean(UserRepository.class).findAll().stream().map(User::getId).toList();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public UserResponse getUserById() {
+        return userService.getUserById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+    
+    @Benchmark
+    public PageResponse<UserResponse> getAllUsersWithCount() {
+        return userService.getAllUsers(randomPage(), true);
+    }
+    
+    @Benchmark
+    public PageResponse<UserResponse> getAllUsersWithoutCount() {
+        return userService.getAllUsers(randomPage(), false);
+    }
+    
+    @Benchmark
+    public PageResponse<UserResponse> getUsersByCursor() {
+        return userService.getUsersByCursor("", null, PAGE_SIZE, Sort.by("createdAt").descending());
+    }
+    
+    private PageRequest randomPage() {
+        int page = ThreadLocalRandom.current().nextInt(USER_COUNT / PAGE_SIZE);
+        return PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt").descending());
+    }
+}
+
@@ -0,0 +1,51 @@
+package org.example.ecomerce.benchmark;
+
+import org.example.ecomerce.common.util.ValidationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex checks from {@link ValidationUtil}, with valid input and input that fails late.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+    
+    private String validEmail = "john.doe+orders@mail.example.com";
+    private String invalidEmail = "john.doe.orders.and.more.text@mail.example.c";
+    private String validPhone = "+84901234567";
+    private String validPassword = "Password@123";
+    private String invalidPassword = "passwordwithoutdigitsoruppercaseletters";
+    
+    @Benchmark
+    public void email(Blackhole blackhole) {
+        blackhole.consume(ValidationUtil.isValidEmail(validEmail));
+        blackhole.consume(ValidationUtil.isValidEmail(invalidEmail));
+    }
+    
+    @Benchmark
+    public boolean phone() {
+        return ValidationUtil.isValidPhone(validPhone);
+    }
+    
+    @Benchmark
+    public void password(Blackhole blackhole) {
+        blackhole.consume(ValidationUtil.isValidPassword(validPassword));
+        blackhole.consume(ValidationUtil.isValidPassword(invalidPassword));
+    }
+}
+
@@ -5,8 +5,11 @@ public class AppConstants {
     // Pagination
     public static final String DEFAULT_PAGE_NUMBER = "0";
     public static final String DEFAULT_PAGE_SIZE = "10";
+    public static final int MAX_PAGE_SIZE = 100;
     public static final String DEFAULT_SORT_BY = "id";
     public static final String DEFAULT_SORT_DIRECTION = "asc";
+    public static final String DEFAULT_WITH_COUNT = "true";
+    public static final int MIN_SEARCH_PREFIX_LENGTH = 2;
     
     // API Response Messages
     public static final String SUCCESS = "Success";
@@ -28,6 +31,24 @@ public class AppConstants {
     public static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     public static final String[] ALLOWED_IMAGE_TYPES = {"image/jpeg", "image/jpg", "image/png", "image/gif"};
     
+    // Import / Export
+    public static final String MEDIA_TYPE_CSV = "text/csv";
+    public static final int MAX_REPORTED_IMPORT_ERRORS = 100;
+    // Physical lines one CSV record may span, so a stray quote cannot swallow the rest of the file
+    public static final int MAX_CSV_RECORD_LINES = 50;
+    
+    // Unique Constraints (translated to error codes by GlobalExceptionHandler)
+    public static final String UK_USERS_USERNAME = "uk_users_username";
+    public static final String UK_USERS_EMAIL = "uk_users_email";
+    public static final String UK_PRODUCTS_NAME = "uk_products_name";
+    public static final String UK_PRODUCTS_SLUG = "uk_products_slug";
+    public static final String UK_PRODUCTS_SKU = "uk_products_sku";
+    
+    // Cache Names
+    public static final String CACHE_USERS_BY_ID = "usersById";
+    public static final String CACHE_USER_IDS_BY_USERNAME = "userIdsByUsername";
+    public static final String CACHE_PRODUCT_IDS_BY_SLUG = "productIdsBySlug";
+    
     // Date Format
     public static final String DATE_FORMAT = "yyyy-MM-dd";
     public static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
@@ -11,6 +11,9 @@ public enum ErrorCode {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "ERR_002", "Bad request"),
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "ERR_003", "Validation error"),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "ERR_004", "Resource not found"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "ERR_005", "Service is busy, please retry later"),
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "ERR_006", "Resource has been modified since it was retrieved"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "ERR_007", "Resource was modified concurrently, please retry"),
     
     // Authentication & Authorization
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "AUTH_001", "Unauthorized access"),
@@ -29,6 +32,9 @@ public enum ErrorCode {
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PROD_001", "Product not found"),
     PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "PROD_002", "Product out of stock"),
     INVALID_PRODUCT_DATA(HttpStatus.BAD_REQUEST, "PROD_003", "Invalid product data"),
+    PRODUCT_ALREADY_EXISTS(HttpStatus.CONFLICT, "PROD_004", "Product name already exists"),
+    SKU_ALREADY_EXISTS(HttpStatus.CONFLICT, "PROD_005", "SKU already exists"),
+    RESERVATION_NOT_PENDING(HttpStatus.CONFLICT, "PROD_006", "Reservation is no longer pending"),
     
     // Order Errors
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_001", "Order not found"),
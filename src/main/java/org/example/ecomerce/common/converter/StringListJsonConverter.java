@@ -0,0 +1,34 @@
+package org.example.ecomerce.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+// Stores a list of strings (e.g. image URLs) as a JSON array in a single TEXT column
+@Converter
+public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
+    
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+    
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return JSON_MAPPER.writeValueAsString(values);
+    }
+    
+    @Override
+    public List<String> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        return JSON_MAPPER.readValue(json, STRING_LIST);
+    }
+}
+
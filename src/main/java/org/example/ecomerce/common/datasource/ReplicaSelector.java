@@ -0,0 +1,127 @@
+package org.example.ecomerce.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round-robin over the replicas that passed the last health check. A replica is healthy when
+ * a connection is valid and, if a lag query is configured, its reported lag in seconds is
+ * within {@code maxLag}. With no healthy replica, {@link #next()} returns null and reads
+ * fall back to the primary. Closing the selector also closes the replica pools.
+ */
+@Slf4j
+public class ReplicaSelector implements AutoCloseable {
+    
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Map<String, Boolean> health = new ConcurrentHashMap<>();
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile List<String> healthyKeys = List.of();
+    private ScheduledExecutorService scheduler;
+    
+    public ReplicaSelector(Map<String, DataSource> replicas, String lagQuery, String lagColumn,
+                           Duration maxLag, Duration checkInterval) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+    
+    public void start() {
+        checkHealth();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("replica-health-check").daemon().unstarted(runnable));
+        scheduler.scheduleWithFixedDelay(this::checkHealth, checkInterval.toMillis(), checkInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+    
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+    
+    public String next() {
+        List<String> keys = healthyKeys;
+        if (keys.isEmpty()) {
+            return null;
+        }
+        return keys.get(Math.floorMod(counter.getAndIncrement(), keys.size()));
+    }
+    
+    public void checkHealth() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((key, dataSource) -> {
+            boolean up = isHealthy(key, dataSource);
+            Boolean previous = health.put(key, up);
+            if (previous == null || previous != up) {
+                log.info("Read replica {} is {}", key, up ? "UP" : "DOWN, reads fall back to the primary");
+            }
+            if (up) {
+                healthy.add(key);
+            }
+        });
+        healthyKeys = List.copyOf(healthy);
+    }
+    
+    private boolean isHealthy(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return true;
+            }
+            
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // No row or NULL lag means replication is not running
+                if (!resultSet.next()) {
+                    return false;
+                }
+                long lagSeconds = lagColumn == null || lagColumn.isBlank()
+                        ? resultSet.getLong(1)
+                        : resultSet.getLong(lagColumn);
+                return !resultSet.wasNull() && lagSeconds <= maxLag.toSeconds();
+            }
+        } catch (SQLException ex) {
+            log.debug("Health check failed for read replica {}: {}", key, ex.getMessage());
+            return false;
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        replicas.forEach((key, dataSource) -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close read replica pool {}", key, ex);
+                }
+            }
+        });
+    }
+}
+
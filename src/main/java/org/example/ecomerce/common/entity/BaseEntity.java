@@ -17,10 +17,17 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
     
+    // Pooled sequence (allocation size 50) instead of IDENTITY so Hibernate can batch inserts;
+    // on MySQL, Hibernate emulates the sequence with a <entity>_seq table
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     
+    // Optimistic lock, also the basis of the user ETags; null until first persisted
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -37,7 +44,10 @@ public abstract class BaseEntity {
     @Column(name = "updated_by")
     private String updatedBy;
     
-    @Column(name = "deleted")
+    @Column(name = "deleted", nullable = false)
     private Boolean deleted = false;
+    
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
 
@@ -2,19 +2,28 @@ package org.example.ecomerce.common.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.AppConstants;
 import org.example.ecomerce.common.constant.ErrorCode;
 import org.example.ecomerce.common.response.ErrorResponse;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -22,6 +31,14 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    private static final Map<String, ErrorCode> UNIQUE_CONSTRAINT_ERRORS = Map.of(
+            AppConstants.UK_USERS_USERNAME, ErrorCode.USER_ALREADY_EXISTS,
+            AppConstants.UK_USERS_EMAIL, ErrorCode.EMAIL_ALREADY_EXISTS,
+            AppConstants.UK_PRODUCTS_NAME, ErrorCode.PRODUCT_ALREADY_EXISTS,
+            AppConstants.UK_PRODUCTS_SLUG, ErrorCode.PRODUCT_ALREADY_EXISTS,
+            AppConstants.UK_PRODUCTS_SKU, ErrorCode.SKU_ALREADY_EXISTS
+    );
+    
     @ExceptionHandler(AppException.class)
     public ResponseEntity<ErrorResponse> handleAppException(AppException ex, HttpServletRequest request) {
         log.error("Application exception: {}", ex.getMessage(), ex);
@@ -94,6 +111,79 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
     
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        log.error("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        
+        // Vendors report the violated constraint differently (H2 upper-cases it, MySQL prefixes the table)
+        String constraint = findConstraintName(ex).toLowerCase(Locale.ROOT);
+        ErrorCode errorCode = UNIQUE_CONSTRAINT_ERRORS.entrySet().stream()
+                .filter(entry -> constraint.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(ErrorCode.BAD_REQUEST);
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(errorCode.getCode())
+                .message(errorCode == ErrorCode.BAD_REQUEST ? "Data integrity violation" : errorCode.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(errorResponse);
+    }
+    
+    // Raised by the multipart resolver before the controller runs (spring.servlet.multipart.max-file-size)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex, HttpServletRequest request) {
+        log.error("Upload too large: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.FILE_TOO_LARGE.getCode())
+                .message(ErrorCode.FILE_TOO_LARGE.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity
+                .status(ErrorCode.FILE_TOO_LARGE.getStatus())
+                .body(errorResponse);
+    }
+    
+    @ExceptionHandler(MissingServletRequestPartException.class)
+    public ResponseEntity<ErrorResponse> handleMissingServletRequestPartException(
+            MissingServletRequestPartException ex, HttpServletRequest request) {
+        log.error("Missing request part: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.BAD_REQUEST.getCode())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse);
+    }
+    
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.error("Optimistic locking failure: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.CONCURRENT_MODIFICATION.getCode())
+                .message(ErrorCode.CONCURRENT_MODIFICATION.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity
+                .status(ErrorCode.CONCURRENT_MODIFICATION.getStatus())
+                .body(errorResponse);
+    }
+    
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(
             BadCredentialsException ex, HttpServletRequest request) {
@@ -110,6 +200,22 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
     
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(
+            AuthenticationException ex, HttpServletRequest request) {
+        log.error("Authentication failed: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.UNAUTHORIZED.getCode())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(errorResponse);
+    }
+    
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(
             AccessDeniedException ex, HttpServletRequest request) {
@@ -142,5 +248,14 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(errorResponse);
     }
+    
+    private String findConstraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        return String.valueOf(NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+    }
 }
 
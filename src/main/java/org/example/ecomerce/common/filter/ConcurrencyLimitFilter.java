@@ -0,0 +1,118 @@
+package org.example.ecomerce.common.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.response.ErrorResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead for virtual-thread mode. Tomcat no longer caps concurrency at its worker pool,
+ * so this bounds in-flight API requests to protect the Hikari pool: excess requests wait
+ * briefly for a permit and are then shed with 503 instead of queueing on connections.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final JsonMapper jsonMapper;
+    
+    public ConcurrencyLimitFilter(
+            @Value("${app.threads.virtual.max-concurrent-requests}") int maxConcurrentRequests,
+            @Value("${app.threads.virtual.acquire-timeout}") Duration acquireTimeout,
+            JsonMapper jsonMapper) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+        this.jsonMapper = jsonMapper;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        
+        if (!acquired) {
+            log.warn("Request rejected, concurrency limit reached: {} {}", request.getMethod(), request.getRequestURI());
+            writeServiceBusy(request, response);
+            return;
+        }
+        
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Async and streaming responses keep running after doFilter returns; the async
+                // dispatch is not filtered again, so the permit is held until the exchange completes
+                request.getAsyncContext().addListener(new PermitReleasingListener());
+            } else {
+                permits.release();
+            }
+        }
+    }
+    
+    private void writeServiceBusy(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.SERVICE_BUSY.getCode())
+                .message(ErrorCode.SERVICE_BUSY.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        response.setStatus(ErrorCode.SERVICE_BUSY.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+    
+    // onComplete also follows timeouts and errors, so it is the only place the permit is released
+    private final class PermitReleasingListener implements AsyncListener {
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+        
+        // Listeners are dropped when async processing is restarted, so re-register for the new cycle
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
+
@@ -0,0 +1,14 @@
+package org.example.ecomerce.common.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+public class LogMarkers {
+    
+    // High-rate per-request lines that SamplingTurboFilter may drop; never use on write, auth or audit lines
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+    
+    private LogMarkers() {
+        throw new IllegalStateException("Utility class");
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.ecomerce.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one in every {@code rate} events logged with the {@link LogMarkers#SAMPLED} marker,
+ * counted per call site (logger and message format). Runs before the logging event is created, so
+ * dropped events cost a counter increment only. Unmarked events and anything at WARN or above are
+ * never sampled.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private int rate = 1;
+    
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks; only count actual log calls
+        if (format == null || rate <= 1 || marker == null || !marker.contains(LogMarkers.SAMPLED)
+                || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        
+        long count = counters.computeIfAbsent(logger.getName() + '|' + format, key -> new AtomicLong())
+                .getAndIncrement();
+        return count % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.ecomerce.common.mapper;
+
+import java.util.List;
+
+/**
+ * Contract for entity to DTO mappers. Implementations are generated at compile time
+ * by MapStruct, so mapping is plain getter/setter code with no reflection at runtime.
+ */
+public interface EntityMapper<E, D> {
+    
+    D toResponse(E entity);
+    
+    List<D> toResponseList(List<E> entities);
+}
+
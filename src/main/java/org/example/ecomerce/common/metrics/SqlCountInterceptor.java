@@ -0,0 +1,75 @@
+package org.example.ecomerce.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements issued per request as the {@code http.server.requests.sql}
+ * summary (tagged like {@code http.server.requests}) and warns about likely N+1 query patterns.
+ * The counter is per thread, so async requests (streamed exports and the like) are not recorded:
+ * their statements run on another thread and the count would be wrong.
+ */
+@Slf4j
+@Component
+public class SqlCountInterceptor implements AsyncHandlerInterceptor {
+    
+    private static final String METRIC_NAME = "http.server.requests.sql";
+    
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    
+    public SqlCountInterceptor(MeterRegistry meterRegistry,
+                               @Value("${app.metrics.sql.n-plus-one-threshold}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.reset();
+        return true;
+    }
+    
+    // Called instead of afterCompletion when the handler started async processing
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        SqlStatementCounter.clear();
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        int count = SqlStatementCounter.get();
+        SqlStatementCounter.clear();
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return;
+        }
+        
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements issued per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(count);
+        
+        if (count > nPlusOneThreshold) {
+            log.warn("Possible N+1 query: {} {} issued {} SQL statements (threshold {})",
+                    request.getMethod(), uri, count, nPlusOneThreshold);
+        }
+    }
+}
+
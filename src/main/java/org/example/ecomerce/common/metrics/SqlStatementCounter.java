@@ -0,0 +1,32 @@
+package org.example.ecomerce.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Registered through
+ * {@code hibernate.session_factory.statement_inspector}, so Hibernate instantiates it and
+ * the counter has to be static; it is reset and read by {@link SqlCountInterceptor}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+    
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+    
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+    
+    public static int get() {
+        return COUNT.get()[0];
+    }
+    
+    public static void clear() {
+        COUNT.remove();
+    }
+}
+
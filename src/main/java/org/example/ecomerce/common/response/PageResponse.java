@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -17,18 +19,48 @@ public class PageResponse<T> {
     
     private List<T> content;
     
-    private int pageNumber;
+    private Integer pageNumber;
     
     private int pageSize;
     
-    private long totalElements;
+    // Null when the total count was skipped (slice or cursor pagination)
+    private Long totalElements;
     
-    private int totalPages;
+    private Integer totalPages;
     
     private boolean last;
     
     private boolean first;
     
     private boolean empty;
+    
+    // Opaque keyset cursors, only set in cursor pagination mode
+    private String nextCursor;
+    
+    private String previousCursor;
+    
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .pageNumber(page.getNumber())
+                .pageSize(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .last(page.isLast())
+                .first(page.isFirst())
+                .empty(page.isEmpty())
+                .build();
+    }
+    
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .last(slice.isLast())
+                .first(slice.isFirst())
+                .empty(slice.isEmpty())
+                .build();
+    }
 }
 
@@ -0,0 +1,75 @@
+package org.example.ecomerce.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.exception.AppException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Authenticates requests carrying a Bearer access token. The signature is verified locally and
+ * the resulting principal is cached until the token expires, so repeated requests with the same
+ * token neither re-parse it nor touch the database. Memory is bounded by
+ * {@code app.jwt.cache.maximum-size}.
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtTokenProvider.VerifiedToken> verifiedTokens;
+    
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   @Value("${app.jwt.cache.maximum-size}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, JwtTokenProvider.VerifiedToken>creating(
+                        (token, verified) -> Duration.between(Instant.now(), verified.expiresAt())))
+                .build();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        
+        if (header != null && header.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = header.substring(BEARER_PREFIX.length()).trim();
+            try {
+                JwtTokenProvider.VerifiedToken verified = verifiedTokens.get(token,
+                        key -> jwtTokenProvider.verify(key, JwtTokenProvider.TOKEN_TYPE_ACCESS));
+                
+                UserPrincipal principal = verified.principal();
+                UsernamePasswordAuthenticationToken authentication =
+                        UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (AppException ex) {
+                // Left unauthenticated; protected endpoints answer 401 through the entry point
+                log.debug("Rejected bearer token: {}", ex.getMessage());
+            }
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
+
@@ -0,0 +1,101 @@
+package org.example.ecomerce.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.example.ecomerce.module.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
+
+@Component
+public class JwtTokenProvider {
+    
+    public static final String TOKEN_TYPE_ACCESS = "access";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+    
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TYPE = "typ";
+    
+    private final SecretKey key;
+    private final long expiration;
+    private final long refreshExpiration;
+    
+    public JwtTokenProvider(@Value("${app.jwt.secret}") String secret,
+                            @Value("${app.jwt.expiration}") long expiration,
+                            @Value("${app.jwt.refresh-expiration}") long refreshExpiration) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.expiration = expiration;
+        this.refreshExpiration = refreshExpiration;
+    }
+    
+    public String generateAccessToken(UserPrincipal principal) {
+        return generateToken(principal, TOKEN_TYPE_ACCESS, expiration);
+    }
+    
+    public String generateRefreshToken(UserPrincipal principal) {
+        return generateToken(principal, TOKEN_TYPE_REFRESH, refreshExpiration);
+    }
+    
+    public long getExpirationSeconds() {
+        return expiration / 1000;
+    }
+    
+    private String generateToken(UserPrincipal principal, String type, long validityMillis) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(principal.getUsername())
+                .claim(CLAIM_USER_ID, principal.getId())
+                .claim(CLAIM_ROLE, principal.getRole().name())
+                .claim(CLAIM_TYPE, type)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusMillis(validityMillis)))
+                .signWith(key)
+                .compact();
+    }
+    
+    /**
+     * Verifies the signature and expiry of the token and checks its type. Purely local, no DB access.
+     */
+    public VerifiedToken verify(String token, String expectedType) {
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } catch (ExpiredJwtException ex) {
+            throw new AppException(ErrorCode.TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new AppException(ErrorCode.TOKEN_INVALID);
+        }
+        
+        if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+            throw new AppException(ErrorCode.TOKEN_INVALID);
+        }
+        
+        try {
+            UserPrincipal principal = UserPrincipal.of(
+                    claims.get(CLAIM_USER_ID, Long.class),
+                    claims.getSubject(),
+                    User.Role.valueOf(claims.get(CLAIM_ROLE, String.class)));
+            return new VerifiedToken(principal, claims.getExpiration().toInstant());
+        } catch (RuntimeException ex) {
+            throw new AppException(ErrorCode.TOKEN_INVALID);
+        }
+    }
+    
+    public record VerifiedToken(UserPrincipal principal, Instant expiresAt) {
+    }
+}
+
@@ -0,0 +1,109 @@
+package org.example.ecomerce.common.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool so CPU-bound work is never done
+ * while a database connection is held, and signup bursts are shed instead of queued forever.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.security.password.hashing.pool-size}") int poolSize,
+            @Value("${app.security.password.hashing.queue-capacity}") int queueCapacity,
+            @Value("${app.security.password.hashing.timeout}") Duration timeout) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        // AbortPolicy: once the queue is full new submissions are rejected (backpressure)
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        
+        log.info("Password hashing pool started with {} threads and queue capacity {}", threads, queueCapacity);
+    }
+    
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException ex) {
+            throw new AppException(ErrorCode.SERVICE_BUSY, "Too many concurrent password operations, please retry later");
+        }
+    }
+    
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+    
+    // Bulk variant for imports: keeps at most one task per worker in flight and hashes on the
+    // caller thread when the pool is saturated, so a large batch never trips the queue limit
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        int window = executor.getMaximumPoolSize();
+        
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            List<CompletableFuture<String>> futures = rawPasswords
+                    .subList(from, Math.min(from + window, rawPasswords.size()))
+                    .stream()
+                    .map(this::encodeOrRunInline)
+                    .toList();
+            futures.forEach(future -> encoded.add(await(future)));
+        }
+        return encoded;
+    }
+    
+    private CompletableFuture<String> encodeOrRunInline(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.completedFuture(passwordEncoder.encode(rawPassword));
+        }
+    }
+    
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new AppException(ErrorCode.SERVICE_BUSY, "Password hashing timed out, please retry later");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "Password hashing was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "Password hashing failed", ex.getCause());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
+
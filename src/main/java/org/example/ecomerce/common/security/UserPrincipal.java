@@ -0,0 +1,54 @@
+package org.example.ecomerce.common.security;
+
+import lombok.Getter;
+import org.example.ecomerce.module.user.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated user. Built from the database at login and from verified JWT claims
+ * on every other request, in which case no password is held.
+ */
+@Getter
+public class UserPrincipal implements UserDetails {
+    
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final User.Role role;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+    
+    private UserPrincipal(Long id, String username, String password, User.Role role, boolean enabled) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getPassword(), user.getRole(),
+                user.getStatus() == User.UserStatus.ACTIVE);
+    }
+    
+    public static UserPrincipal of(Long id, String username, User.Role role) {
+        return new UserPrincipal(id, username, null, role, true);
+    }
+    
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
+
@@ -0,0 +1,71 @@
+package org.example.ecomerce.common.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores uploads under {@code app.upload.dir}, served by WebConfig at /uploads/**. Files are
+ * hard-linked from the staging directory when both are on the same file system, so storing
+ * copies no bytes.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.upload.storage", havingValue = "local", matchIfMissing = true)
+public class LocalStorageService implements StorageService {
+    
+    private static final String URL_PREFIX = "/uploads/";
+    
+    private final Path root;
+    
+    public LocalStorageService(@Value("${app.upload.dir}") String dir) {
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+    }
+    
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+    
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.createLink(target, source);
+        } catch (FileAlreadyExistsException ex) {
+            // Same key means same content, a concurrent upload of the same file got there first
+        } catch (UnsupportedOperationException | IOException ex) {
+            log.debug("Cannot link {} into {}, copying instead: {}", source, target, ex.getMessage());
+            // Copied next to the target and renamed, so a reader never sees a partial file
+            Path partial = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+            try {
+                Files.copy(source, partial, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        }
+    }
+    
+    @Override
+    public String url(String key) {
+        return URL_PREFIX + key;
+    }
+    
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Storage key escapes the upload directory: " + key);
+        }
+        return path;
+    }
+}
+
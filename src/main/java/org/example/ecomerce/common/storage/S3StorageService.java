@@ -0,0 +1,81 @@
+package org.example.ecomerce.common.storage;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.util.StringUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+
+/**
+ * Stores uploads in an S3 bucket. Setting {@code app.aws.s3.endpoint} (with path-style access)
+ * points it at an S3 compatible stand-in such as MinIO or LocalStack for local runs and tests.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.upload.storage", havingValue = "s3")
+public class S3StorageService implements StorageService {
+    
+    // Keys are content hashes, so an object never changes once written
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    
+    private final AmazonS3 s3;
+    private final String bucket;
+    private final String publicUrl;
+    
+    public S3StorageService(@Value("${app.aws.s3.bucket-name}") String bucket,
+                            @Value("${app.aws.s3.access-key}") String accessKey,
+                            @Value("${app.aws.s3.secret-key}") String secretKey,
+                            @Value("${app.aws.s3.region}") String region,
+                            @Value("${app.aws.s3.endpoint}") String endpoint,
+                            @Value("${app.aws.s3.path-style-access}") boolean pathStyleAccess,
+                            @Value("${app.aws.s3.public-url}") String publicUrl) {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
+                .withPathStyleAccessEnabled(pathStyleAccess);
+        if (StringUtil.isNullOrEmpty(endpoint)) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        }
+        
+        this.s3 = builder.build();
+        this.bucket = bucket;
+        this.publicUrl = StringUtil.isNullOrEmpty(publicUrl) ? null : publicUrl.replaceAll("/+$", "");
+        log.info("S3 storage using bucket {} at {}", bucket, StringUtil.isNullOrEmpty(endpoint) ? region : endpoint);
+    }
+    
+    @Override
+    public boolean exists(String key) {
+        return s3.doesObjectExist(bucket, key);
+    }
+    
+    // Uploaded from the file with a known length, so the SDK streams it instead of buffering
+    @Override
+    public void store(String key, Path source, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setCacheControl(CACHE_CONTROL);
+        s3.putObject(new PutObjectRequest(bucket, key, source.toFile()).withMetadata(metadata));
+    }
+    
+    @Override
+    public String url(String key) {
+        return publicUrl != null ? publicUrl + "/" + key : s3.getUrl(bucket, key).toString();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        s3.shutdown();
+    }
+}
+
@@ -0,0 +1,21 @@
+package org.example.ecomerce.common.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Object storage for uploaded files, selected with {@code app.upload.storage} (local | s3).
+ * Keys are content addressed, so an object is never overwritten with different bytes.
+ */
+public interface StorageService {
+    
+    boolean exists(String key) throws IOException;
+    
+    /**
+     * Stores the file under the key. The source file is left in place, the caller deletes it.
+     */
+    void store(String key, Path source, String contentType) throws IOException;
+    
+    String url(String key);
+}
+
@@ -0,0 +1,84 @@
+package org.example.ecomerce.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvUtil {
+    
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    
+    private CsvUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    // Parses a single RFC 4180 record; quoted fields may contain separators, line breaks and "" escapes
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    // A record with an odd number of quotes so far continues on the next line; "" escapes count
+    // twice, so they keep the parity
+    public static int countQuotes(String line) {
+        int count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == QUOTE) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    // Formats a single record, quoting fields that contain separators, quotes or line breaks
+    public static String formatLine(List<String> fields) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(escape(fields.get(i)));
+        }
+        return line.toString();
+    }
+    
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+}
+
@@ -0,0 +1,127 @@
+package org.example.ecomerce.common.util;
+
+import org.example.ecomerce.common.exception.BadRequestException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.beans.PropertyDescriptor;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursor tokens carrying
+ * the sort key values (including the id) of a boundary row.
+ */
+public class CursorUtil {
+    
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    
+    private CursorUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.getKeys().isEmpty()) {
+            return null;
+        }
+        
+        StringJoiner joiner = new StringJoiner("&");
+        keyset.getKeys().forEach((key, value) -> joiner.add(
+                URLEncoder.encode(key, StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+        
+        return ENCODER.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a cursor token back into a keyset position for the given entity type.
+     * A blank forward cursor means "start from the first row". The token is client input, so its
+     * keys must be exactly the sort properties plus id: anything else (another sort's cursor, or
+     * a hand-made one probing a column such as password) is rejected.
+     */
+    public static KeysetScrollPosition decode(String cursor, Class<?> entityClass, Sort sort,
+                                              ScrollPosition.Direction direction) {
+        if (StringUtil.isNullOrEmpty(cursor)) {
+            if (direction == ScrollPosition.Direction.BACKWARD) {
+                throw new BadRequestException("Cursor 'before' must not be empty");
+            }
+            return ScrollPosition.keyset();
+        }
+        
+        Set<String> expectedKeys = new HashSet<>();
+        sort.forEach(order -> expectedKeys.add(order.getProperty()));
+        expectedKeys.add("id");
+        
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            for (String pair : decoded.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator <= 0) {
+                    throw new BadRequestException("Invalid cursor");
+                }
+                
+                String key = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                
+                PropertyDescriptor property = expectedKeys.contains(key)
+                        ? BeanUtils.getPropertyDescriptor(entityClass, key)
+                        : null;
+                if (property == null || keys.containsKey(key)) {
+                    throw new BadRequestException("Invalid cursor");
+                }
+                keys.put(key, convert(value, property.getPropertyType()));
+            }
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        
+        if (!keys.keySet().equals(expectedKeys)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        
+        return direction == ScrollPosition.Direction.FORWARD
+                ? ScrollPosition.forward(keys)
+                : ScrollPosition.backward(keys);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == Long.class || type == long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value);
+        }
+        throw new BadRequestException("Invalid cursor");
+    }
+}
+
@@ -0,0 +1,52 @@
+package org.example.ecomerce.common.util;
+
+import org.example.ecomerce.common.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Strong entity tags of the form {@code "<id>-<version>"} built from the optimistic-lock version.
+ */
+public class ETagUtil {
+    
+    private static final String WILDCARD = "*";
+    
+    private ETagUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    public static String toETag(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+    
+    /**
+     * Returns the version required by an {@code If-Match} header, or null when the header is
+     * absent or {@code *}. A tag that was not issued for this resource can never match, so it
+     * yields -1 and the update fails with 412.
+     */
+    public static Long parseIfMatch(String ifMatch, Long id) {
+        if (StringUtil.isNullOrEmpty(ifMatch) || WILDCARD.equals(ifMatch.trim())) {
+            return null;
+        }
+        if (ifMatch.contains(",")) {
+            throw new BadRequestException("If-Match supports a single entity tag");
+        }
+        
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            return -1L;
+        }
+        try {
+            return Long.valueOf(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            return -1L;
+        }
+    }
+    
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
+
@@ -0,0 +1,47 @@
+package org.example.ecomerce.common.util;
+
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+public class PaginationUtil {
+    
+    private PaginationUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    /**
+     * Builds a sort on a whitelisted, index-backed field. The id is appended as a tiebreaker
+     * so rows with equal sort values keep a stable order across pages.
+     */
+    public static Sort sort(String sortBy, String sortDir, Set<String> sortableFields) {
+        if (!sortableFields.contains(sortBy)) {
+            throw new BadRequestException("Invalid sort field: " + sortBy
+                    + ". Allowed values: " + String.join(", ", sortableFields.stream().sorted().toList()));
+        }
+        
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sortDir)
+                .orElseThrow(() -> new BadRequestException("Invalid sort direction: " + sortDir));
+        
+        Sort sort = Sort.by(direction, sortBy);
+        return "id".equals(sortBy) ? sort : sort.and(Sort.by(direction, "id"));
+    }
+    
+    public static int pageSize(int size) {
+        if (size < 1 || size > AppConstants.MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + AppConstants.MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+    
+    public static PageRequest pageRequest(int page, int size, Sort sort) {
+        if (page < 0) {
+            throw new BadRequestException("Page number must not be negative");
+        }
+        return PageRequest.of(page, pageSize(size), sort);
+    }
+}
+
@@ -0,0 +1,100 @@
+package org.example.ecomerce.common.util;
+
+import java.text.Normalizer;
+
+/**
+ * Single-pass equivalent of {@link StringUtil#toSlug(String)} without regexes or intermediate
+ * strings: whitespace becomes '-', accented letters keep their NFD base letter, anything else
+ * outside {@code [A-Za-z0-9_-]} is dropped and the result is lower-cased. The NFD fold of every
+ * char below {@link #TABLE_SIZE} is precomputed, rarer code points are decomposed on the fly.
+ */
+public final class SlugNormalizer {
+    
+    // Latin, Greek, Cyrillic, Latin Extended Additional (Vietnamese) and the letterlike symbols
+    private static final int TABLE_SIZE = 0x3000;
+    private static final char DROP = 0;
+    private static final char DECOMPOSE = Character.MAX_VALUE;
+    private static final char[] FOLD = buildFoldTable();
+    
+    private SlugNormalizer() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    public static String normalize(String input) {
+        if (StringUtil.isNullOrEmpty(input)) {
+            return "";
+        }
+        if (isSlug(input)) {
+            return input;
+        }
+        
+        StringBuilder slug = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); ) {
+            int codePoint = input.codePointAt(i);
+            i += Character.charCount(codePoint);
+            
+            char folded = codePoint < TABLE_SIZE ? FOLD[codePoint] : DECOMPOSE;
+            if (folded == DECOMPOSE) {
+                appendDecomposed(slug, codePoint);
+            } else if (folded != DROP) {
+                slug.append(folded);
+            }
+        }
+        return slug.toString();
+    }
+    
+    // Already lower-case slug characters only, returned as is
+    private static boolean isSlug(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void appendDecomposed(StringBuilder slug, int codePoint) {
+        String decomposed = Normalizer.normalize(Character.toString(codePoint), Normalizer.Form.NFD);
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = foldAscii(decomposed.charAt(i));
+            if (c != DROP) {
+                slug.append(c);
+            }
+        }
+    }
+    
+    // Whitespace as matched by \s, then the [\w-] filter and lower-casing of toSlug
+    private static char foldAscii(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '_') {
+            return c;
+        }
+        if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+            return '-';
+        }
+        return DROP;
+    }
+    
+    private static char[] buildFoldTable() {
+        char[] table = new char[TABLE_SIZE];
+        for (char c = 0; c < 0x80; c++) {
+            table[c] = foldAscii(c);
+        }
+        
+        StringBuilder folded = new StringBuilder(4);
+        for (int codePoint = 0x80; codePoint < TABLE_SIZE; codePoint++) {
+            folded.setLength(0);
+            appendDecomposed(folded, codePoint);
+            table[codePoint] = switch (folded.length()) {
+                case 0 -> DROP;
+                case 1 -> folded.charAt(0);
+                default -> DECOMPOSE;
+            };
+        }
+        return table;
+    }
+}
+
@@ -0,0 +1,56 @@
+package org.example.ecomerce.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    @Value("${app.cache.users.maximum-size}")
+    private long usersMaximumSize;
+    
+    @Value("${app.cache.users.expire-after-write}")
+    private Duration usersExpireAfterWrite;
+    
+    @Value("${app.cache.products.maximum-size}")
+    private long productsMaximumSize;
+    
+    @Value("${app.cache.products.expire-after-write}")
+    private Duration productsExpireAfterWrite;
+    
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        
+        cacheManager.registerCustomCache(AppConstants.CACHE_USERS_BY_ID,
+                buildCache(usersMaximumSize, usersExpireAfterWrite));
+        cacheManager.registerCustomCache(AppConstants.CACHE_USER_IDS_BY_USERNAME,
+                buildCache(usersMaximumSize, usersExpireAfterWrite));
+        cacheManager.registerCustomCache(AppConstants.CACHE_PRODUCT_IDS_BY_SLUG,
+                buildCache(productsMaximumSize, productsExpireAfterWrite));
+        
+        // Puts and evictions are deferred until the surrounding transaction commits,
+        // so a rolled-back write never leaves the cache ahead of the database
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+    
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(
+            long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
+
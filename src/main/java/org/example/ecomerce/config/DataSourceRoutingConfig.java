@@ -0,0 +1,101 @@
+package org.example.ecomerce.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.ecomerce.common.datasource.ReadWriteRoutingDataSource;
+import org.example.ecomerce.common.datasource.ReplicaSelector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool with a primary plus read replicas when
+ * {@code app.datasource.routing.enabled} is set. {@code @Transactional(readOnly = true)}
+ * work goes to a healthy replica, everything else to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    
+    @Value("${spring.datasource.url}")
+    private String url;
+    
+    @Value("${spring.datasource.username}")
+    private String username;
+    
+    @Value("${spring.datasource.password}")
+    private String password;
+    
+    @Value("${spring.datasource.driver-class-name}")
+    private String driverClassName;
+    
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int maximumPoolSize;
+    
+    @Value("${app.datasource.routing.replica-urls}")
+    private List<String> replicaUrls;
+    
+    @Value("${app.datasource.routing.lag-query}")
+    private String lagQuery;
+    
+    @Value("${app.datasource.routing.lag-column}")
+    private String lagColumn;
+    
+    @Value("${app.datasource.routing.max-lag}")
+    private Duration maxLag;
+    
+    @Value("${app.datasource.routing.health-check-interval}")
+    private Duration healthCheckInterval;
+    
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource() {
+        return createPool("primary", url);
+    }
+    
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaSelector replicaSelector(HikariDataSource primaryDataSource) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String replicaUrl = replicaUrls.get(i).trim();
+            if (!replicaUrl.isEmpty()) {
+                HikariDataSource replica = createPool("replica-" + i, replicaUrl);
+                // Replica pools are not beans; they follow the primary's tuning (see VirtualThreadDataSourceConfig)
+                replica.setMinimumIdle(primaryDataSource.getMinimumIdle());
+                replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+                replicas.put("replica-" + i, replica);
+            }
+        }
+        return new ReplicaSelector(replicas, lagQuery, lagColumn, maxLag, healthCheckInterval);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSelector replicaSelector) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaSelector.getReplicas(), replicaSelector);
+        // Defers the physical connection until the first statement, after the
+        // transaction manager has published the read-only flag
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+    
+    private HikariDataSource createPool(String name, String jdbcUrl) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("ecommerce-" + name);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(driverClassName);
+        config.setMaximumPoolSize(maximumPoolSize);
+        return new HikariDataSource(config);
+    }
+}
+
@@ -0,0 +1,57 @@
+package org.example.ecomerce.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.response.ApiResponse;
+import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.entity.User;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Configuration
+public class JacksonConfig {
+    
+    // Registered into Boot's JsonMapper: property access through generated lambdas instead of reflection
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+    
+    /**
+     * Serializes one of each response envelope at startup, so serializer construction and
+     * Blackbird accessor generation happen before the first request instead of during it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpSerializers(ApplicationReadyEvent event) {
+        JsonMapper jsonMapper = event.getApplicationContext().getBean(JsonMapper.class);
+        
+        UserResponse user = UserResponse.builder()
+                .id(0L)
+                .username("warmup")
+                .email("warmup@example.com")
+                .role(User.Role.USER)
+                .status(User.UserStatus.ACTIVE)
+                .emailVerified(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(0L)
+                .build();
+        PageResponse<UserResponse> page = PageResponse.of(new PageImpl<>(List.of(user), PageRequest.of(0, 1), 1));
+        
+        jsonMapper.writeValueAsBytes(ApiResponse.success(user));
+        jsonMapper.writeValueAsBytes(ApiResponse.success(page));
+        jsonMapper.writeValueAsBytes(ApiResponse.success(List.of(user)));
+        log.debug("Response serializers warmed up");
+    }
+}
+
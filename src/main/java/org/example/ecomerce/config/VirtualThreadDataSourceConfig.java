@@ -0,0 +1,38 @@
+package org.example.ecomerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Hikari tuning for virtual-thread mode only: the pool is kept full (minimum idle equals the
+ * pool size) and a request that cannot get a connection fails fast instead of parking on the
+ * pool while holding a {@code ConcurrencyLimitFilter} permit.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+    
+    // After initialization, so spring.datasource.hikari.* has already been bound
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolTuning(
+            @Value("${app.threads.virtual.connection-timeout}") Duration connectionTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+                    dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+}
+
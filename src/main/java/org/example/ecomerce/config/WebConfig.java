@@ -1,16 +1,39 @@
 package org.example.ecomerce.config;
 
+import lombok.RequiredArgsConstructor;
+import org.example.ecomerce.common.metrics.SqlCountInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Path;
+import java.time.Duration;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     
+    private final SqlCountInterceptor sqlCountInterceptor;
+    
+    @Value("${app.upload.dir}")
+    private String uploadDir;
+    
+    // Local storage only; uploaded files are content addressed and never change under their name
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String location = Path.of(uploadDir).toAbsolutePath().normalize().toUri().toString();
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+                .addResourceLocations(location.endsWith("/") ? location : location + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlCountInterceptor)
+                .addPathPatterns("/api/**");
     }
 }
 
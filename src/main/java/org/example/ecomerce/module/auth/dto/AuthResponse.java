@@ -0,0 +1,22 @@
+package org.example.ecomerce.module.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthResponse {
+    
+    private String accessToken;
+    private String refreshToken;
+    
+    @Builder.Default
+    private String tokenType = "Bearer";
+    
+    private long expiresIn;
+}
+
@@ -0,0 +1,69 @@
+package org.example.ecomerce.module.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.example.ecomerce.common.exception.ResourceNotFoundException;
+import org.example.ecomerce.common.security.JwtTokenProvider;
+import org.example.ecomerce.common.security.UserPrincipal;
+import org.example.ecomerce.module.auth.dto.AuthResponse;
+import org.example.ecomerce.module.auth.dto.LoginRequest;
+import org.example.ecomerce.module.auth.dto.RefreshTokenRequest;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.service.UserService;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+    
+    private final AuthenticationManager authenticationManager;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserService userService;
+    
+    public AuthResponse login(LoginRequest request) {
+        log.info("Login attempt for username: {}", request.getUsername());
+        
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+        
+        return issueTokens((UserPrincipal) authentication.getPrincipal());
+    }
+    
+    /**
+     * Exchanges a refresh token for a new token pair. The user is re-read through the user cache
+     * so role and status changes take effect at refresh time.
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        JwtTokenProvider.VerifiedToken verified =
+                jwtTokenProvider.verify(request.getRefreshToken(), JwtTokenProvider.TOKEN_TYPE_REFRESH);
+        
+        UserResponse user;
+        try {
+            user = userService.getUserById(verified.principal().getId());
+        } catch (ResourceNotFoundException ex) {
+            throw new AppException(ErrorCode.TOKEN_INVALID);
+        }
+        
+        if (user.getStatus() != User.UserStatus.ACTIVE) {
+            throw new AppException(ErrorCode.UNAUTHORIZED, "User account is not active");
+        }
+        
+        return issueTokens(UserPrincipal.of(user.getId(), user.getUsername(), user.getRole()));
+    }
+    
+    private AuthResponse issueTokens(UserPrincipal principal) {
+        return AuthResponse.builder()
+                .accessToken(jwtTokenProvider.generateAccessToken(principal))
+                .refreshToken(jwtTokenProvider.generateRefreshToken(principal))
+                .expiresIn(jwtTokenProvider.getExpirationSeconds())
+                .build();
+    }
+}
+
@@ -0,0 +1,47 @@
+package org.example.ecomerce.module.inventory.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.response.ApiResponse;
+import org.example.ecomerce.module.inventory.dto.ReservationRequest;
+import org.example.ecomerce.module.inventory.dto.ReservationResponse;
+import org.example.ecomerce.module.inventory.service.InventoryService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/inventory/reservations")
+@RequiredArgsConstructor
+public class InventoryController {
+    
+    private final InventoryService inventoryService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReservationResponse>> reserve(@Valid @RequestBody ReservationRequest request) {
+        ReservationResponse reservation = inventoryService.reserve(request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(AppConstants.CREATED, reservation));
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ReservationResponse>> getReservation(@PathVariable Long id) {
+        ReservationResponse reservation = inventoryService.getReservation(id);
+        return ResponseEntity.ok(ApiResponse.success("Reservation retrieved successfully", reservation));
+    }
+    
+    @PostMapping("/{id}/commit")
+    public ResponseEntity<ApiResponse<ReservationResponse>> commit(@PathVariable Long id) {
+        ReservationResponse reservation = inventoryService.commit(id);
+        return ResponseEntity.ok(ApiResponse.success("Reservation committed", reservation));
+    }
+    
+    @PostMapping("/{id}/release")
+    public ResponseEntity<ApiResponse<ReservationResponse>> release(@PathVariable Long id) {
+        ReservationResponse reservation = inventoryService.release(id);
+        return ResponseEntity.ok(ApiResponse.success("Reservation released", reservation));
+    }
+}
+
@@ -0,0 +1,44 @@
+package org.example.ecomerce.module.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.ecomerce.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+// Stock held for a checkout. Its own row changes are guarded by the optimistic lock;
+// the product stock itself is only ever changed with conditional UPDATEs
+@Entity
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservation extends BaseEntity {
+    
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+    
+    @Column(nullable = false)
+    private Integer quantity;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ReservationStatus status = ReservationStatus.PENDING;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+    
+    public enum ReservationStatus {
+        PENDING, COMMITTED, RELEASED, EXPIRED
+    }
+}
+
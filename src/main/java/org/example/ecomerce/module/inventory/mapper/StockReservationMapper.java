@@ -0,0 +1,12 @@
+package org.example.ecomerce.module.inventory.mapper;
+
+import org.example.ecomerce.common.mapper.EntityMapper;
+import org.example.ecomerce.common.mapper.MapStructConfig;
+import org.example.ecomerce.module.inventory.dto.ReservationResponse;
+import org.example.ecomerce.module.inventory.entity.StockReservation;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapStructConfig.class)
+public interface StockReservationMapper extends EntityMapper<StockReservation, ReservationResponse> {
+}
+
@@ -0,0 +1,21 @@
+package org.example.ecomerce.module.inventory.repository;
+
+import org.example.ecomerce.module.inventory.entity.StockReservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+    
+    // Served by idx_stock_reservations_status_expires_at
+    @Query("SELECT r.id FROM StockReservation r WHERE r.status = :status AND r.expiresAt <= :now ORDER BY r.expiresAt")
+    List<Long> findExpiredIds(@Param("status") StockReservation.ReservationStatus status,
+                              @Param("now") LocalDateTime now, Limit limit);
+}
+
@@ -0,0 +1,163 @@
+package org.example.ecomerce.module.inventory.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.example.ecomerce.common.exception.ResourceNotFoundException;
+import org.example.ecomerce.module.inventory.dto.ReservationRequest;
+import org.example.ecomerce.module.inventory.dto.ReservationResponse;
+import org.example.ecomerce.module.inventory.entity.StockReservation;
+import org.example.ecomerce.module.inventory.mapper.StockReservationMapper;
+import org.example.ecomerce.module.inventory.repository.StockReservationRepository;
+import org.example.ecomerce.module.product.dto.ProductStock;
+import org.example.ecomerce.module.product.event.ProductStockChangedEvent;
+import org.example.ecomerce.module.product.repository.ProductRepository;
+import org.example.ecomerce.module.product.service.ProductCounterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Checkout stock reservations. Reserving is one conditional decrement on the product row
+ * ({@code WHERE stock >= quantity}) plus an insert, so concurrent buyers never oversell and
+ * never hold the product row longer than their own short transaction. A reservation is then
+ * committed (sold) or released; unclaimed ones are expired by {@link StockReservationExpiryJob}.
+ */
+@Slf4j
+@Service
+public class InventoryService {
+    
+    private final ProductRepository productRepository;
+    private final StockReservationRepository reservationRepository;
+    private final StockReservationMapper reservationMapper;
+    private final ProductCounterService productCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration reservationTtl;
+    
+    public InventoryService(ProductRepository productRepository, StockReservationRepository reservationRepository,
+                            StockReservationMapper reservationMapper, ProductCounterService productCounterService,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.inventory.reservation.ttl}") Duration reservationTtl) {
+        this.productRepository = productRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationMapper = reservationMapper;
+        this.productCounterService = productCounterService;
+        this.eventPublisher = eventPublisher;
+        this.reservationTtl = reservationTtl;
+    }
+    
+    @Transactional
+    public ReservationResponse reserve(ReservationRequest request) {
+        Long productId = request.getProductId();
+        int quantity = request.getQuantity();
+        log.debug("Reserving {} of product {}", quantity, productId);
+        
+        if (productRepository.reserveStock(productId, quantity) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new ResourceNotFoundException("Product", "id", productId);
+            }
+            throw new AppException(ErrorCode.PRODUCT_OUT_OF_STOCK,
+                    "Product " + productId + " is not available in the requested quantity");
+        }
+        
+        // Only the last unit changes availability, every other reservation skips the event
+        ProductStock stock = findStock(productId);
+        if (stock.stock() == 0) {
+            eventPublisher.publishEvent(
+                    new ProductStockChangedEvent(productId, stock.stock(), stock.status(), stock.version()));
+        }
+        
+        StockReservation reservation = reservationRepository.save(StockReservation.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .status(StockReservation.ReservationStatus.PENDING)
+                .expiresAt(LocalDateTime.now().plus(reservationTtl))
+                .build());
+        log.info("Reserved {} of product {} with reservation {}", quantity, productId, reservation.getId());
+        return reservationMapper.toResponse(reservation);
+    }
+    
+    @Transactional(readOnly = true)
+    public ReservationResponse getReservation(Long id) {
+        return reservationMapper.toResponse(findReservation(id));
+    }
+    
+    // Concurrent commit/release of the same reservation is settled by the optimistic lock (409)
+    @Transactional
+    public ReservationResponse commit(Long id) {
+        log.info("Committing reservation {}", id);
+        
+        StockReservation reservation = findReservation(id);
+        requirePending(reservation);
+        if (reservation.isExpired(LocalDateTime.now())) {
+            throw new AppException(ErrorCode.RESERVATION_NOT_PENDING, "Reservation " + id + " has expired");
+        }
+        
+        reservation.setStatus(StockReservation.ReservationStatus.COMMITTED);
+        productCounterService.recordSale(reservation.getProductId(), reservation.getQuantity());
+        return reservationMapper.toResponse(reservationRepository.saveAndFlush(reservation));
+    }
+    
+    @Transactional
+    public ReservationResponse release(Long id) {
+        log.info("Releasing reservation {}", id);
+        
+        StockReservation reservation = findReservation(id);
+        requirePending(reservation);
+        return reservationMapper.toResponse(returnStock(reservation, StockReservation.ReservationStatus.RELEASED));
+    }
+    
+    /**
+     * Returns the stock of a reservation that is still pending past its expiry. A no-op when it
+     * was committed or released meanwhile.
+     */
+    @Transactional
+    public boolean expire(Long id) {
+        StockReservation reservation = reservationRepository.findById(id).orElse(null);
+        if (reservation == null
+                || reservation.getStatus() != StockReservation.ReservationStatus.PENDING
+                || !reservation.isExpired(LocalDateTime.now())) {
+            return false;
+        }
+        returnStock(reservation, StockReservation.ReservationStatus.EXPIRED);
+        return true;
+    }
+    
+    private StockReservation returnStock(StockReservation reservation, StockReservation.ReservationStatus status) {
+        reservation.setStatus(status);
+        StockReservation saved = reservationRepository.saveAndFlush(reservation);
+        
+        Long productId = reservation.getProductId();
+        productRepository.restoreStock(productId, reservation.getQuantity());
+        
+        // Stock equal to the returned quantity means the product was empty before; a product
+        // deleted since the reservation still gets its stock back but is no longer visible
+        productRepository.findStockById(productId)
+                .filter(stock -> stock.stock().equals(reservation.getQuantity()))
+                .ifPresent(stock -> eventPublisher.publishEvent(
+                        new ProductStockChangedEvent(productId, stock.stock(), stock.status(), stock.version())));
+        return saved;
+    }
+    
+    private StockReservation findReservation(Long id) {
+        return reservationRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Reservation", "id", id));
+    }
+    
+    private ProductStock findStock(Long productId) {
+        return productRepository.findStockById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
+    }
+    
+    private static void requirePending(StockReservation reservation) {
+        if (reservation.getStatus() != StockReservation.ReservationStatus.PENDING) {
+            throw new AppException(ErrorCode.RESERVATION_NOT_PENDING,
+                    "Reservation " + reservation.getId() + " is already " + reservation.getStatus());
+        }
+    }
+}
+
@@ -0,0 +1,68 @@
+package org.example.ecomerce.module.inventory.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.module.inventory.entity.StockReservation;
+import org.example.ecomerce.module.inventory.repository.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Returns the stock of reservations that were neither committed nor released in time.
+ * Each reservation expires in its own short transaction, so a checkout committing the same
+ * reservation concurrently only costs this job a retry on the next run.
+ */
+@Slf4j
+@Component
+public class StockReservationExpiryJob {
+    
+    private final StockReservationRepository reservationRepository;
+    private final InventoryService inventoryService;
+    private final int batchSize;
+    
+    public StockReservationExpiryJob(StockReservationRepository reservationRepository,
+                                     InventoryService inventoryService,
+                                     @Value("${app.inventory.reservation.batch-size}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.inventoryService = inventoryService;
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.inventory.reservation.sweep-interval}",
+            initialDelayString = "${app.inventory.reservation.sweep-interval}")
+    public void expireReservations() {
+        long expired = 0;
+        
+        while (true) {
+            List<Long> ids = reservationRepository.findExpiredIds(StockReservation.ReservationStatus.PENDING,
+                    LocalDateTime.now(), Limit.of(batchSize));
+            
+            int processed = 0;
+            for (Long id : ids) {
+                try {
+                    if (inventoryService.expire(id)) {
+                        expired++;
+                    }
+                    processed++;
+                } catch (OptimisticLockingFailureException ex) {
+                    log.debug("Reservation {} changed while expiring, retrying next run", id);
+                }
+            }
+            
+            // Stop on a short batch, or when every row of a full batch was contended
+            if (ids.size() < batchSize || processed == 0) {
+                break;
+            }
+        }
+        
+        if (expired > 0) {
+            log.info("Expired {} stock reservations", expired);
+        }
+    }
+}
+
@@ -0,0 +1,144 @@
+package org.example.ecomerce.module.product.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.response.ApiResponse;
+import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.common.util.PaginationUtil;
+import org.example.ecomerce.module.product.dto.ProductFilterResponse;
+import org.example.ecomerce.module.product.dto.ProductRequest;
+import org.example.ecomerce.module.product.dto.ProductResponse;
+import org.example.ecomerce.module.product.dto.ProductSearchRequest;
+import org.example.ecomerce.module.product.dto.ProductStockRequest;
+import org.example.ecomerce.module.product.service.ProductService;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductController {
+    
+    // Each field is backed by an index that ends with id (see Product)
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "price", "createdAt");
+    
+    // Orders the facet index can produce without sorting the matches by anything else
+    private static final Set<String> FILTER_SORTABLE_FIELDS = Set.of("id", "price");
+    
+    private final ProductService productService;
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> getAllProducts(
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_BY) String sortBy,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_DIRECTION) String sortDir
+    ) {
+        Sort sort = PaginationUtil.sort(sortBy, sortDir, SORTABLE_FIELDS);
+        PageResponse<ProductResponse> products = productService.getAllProducts(
+                PaginationUtil.pageRequest(page, size, sort));
+        return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", products));
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> searchProducts(
+            @ModelAttribute ProductSearchRequest request,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_BY) String sortBy,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_DIRECTION) String sortDir
+    ) {
+        Sort sort = PaginationUtil.sort(sortBy, sortDir, SORTABLE_FIELDS);
+        PageResponse<ProductResponse> products = productService.searchProducts(
+                request, PaginationUtil.pageRequest(page, size, sort));
+        return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", products));
+    }
+    
+    // Catalog filter with facet counts, served from the in-memory index (no keyword)
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<ProductFilterResponse>> filterProducts(
+            @ModelAttribute ProductSearchRequest request,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir
+    ) {
+        Sort sort = PaginationUtil.sort(sortBy, sortDir, FILTER_SORTABLE_FIELDS);
+        ProductFilterResponse products = productService.filterProducts(
+                request, PaginationUtil.pageRequest(page, size, sort));
+        return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", products));
+    }
+    
+    @GetMapping("/featured")
+    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> getFeaturedProducts(
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size
+    ) {
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        PageResponse<ProductResponse> products = productService.getFeaturedProducts(
+                PaginationUtil.pageRequest(page, size, sort));
+        return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", products));
+    }
+    
+    @GetMapping("/category/{categoryId}")
+    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> getProductsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size
+    ) {
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        PageResponse<ProductResponse> products = productService.getProductsByCategory(
+                categoryId, PaginationUtil.pageRequest(page, size, sort));
+        return ResponseEntity.ok(ApiResponse.success("Products retrieved successfully", products));
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long id) {
+        ProductResponse product = productService.getProductById(id);
+        return ResponseEntity.ok(ApiResponse.success("Product retrieved successfully", product));
+    }
+    
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<ApiResponse<ProductResponse>> getProductBySlug(@PathVariable String slug) {
+        ProductResponse product = productService.getProductBySlug(slug);
+        return ResponseEntity.ok(ApiResponse.success("Product retrieved successfully", product));
+    }
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<ProductResponse>> createProduct(@Valid @RequestBody ProductRequest request) {
+        ProductResponse product = productService.createProduct(request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(AppConstants.CREATED, product));
+    }
+    
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<ProductResponse>> updateProduct(
+            @PathVariable Long id,
+            @Valid @RequestBody ProductRequest request
+    ) {
+        ProductResponse product = productService.updateProduct(id, request);
+        return ResponseEntity.ok(ApiResponse.success(AppConstants.UPDATED, product));
+    }
+    
+    @PatchMapping("/{id}/stock")
+    public ResponseEntity<ApiResponse<ProductResponse>> updateStock(
+            @PathVariable Long id,
+            @Valid @RequestBody ProductStockRequest request
+    ) {
+        ProductResponse product = productService.updateStock(id, request.getQuantity());
+        return ResponseEntity.ok(ApiResponse.success(AppConstants.UPDATED, product));
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteProduct(@PathVariable Long id) {
+        productService.deleteProduct(id);
+        return ResponseEntity.ok(ApiResponse.success(AppConstants.DELETED));
+    }
+}
+
@@ -0,0 +1,20 @@
+package org.example.ecomerce.module.product.dto;
+
+import org.example.ecomerce.module.product.entity.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * The filterable columns of a product, as held by the facet index. Loaded with a constructor
+ * expression on rebuild and derived from {@link ProductResponse} on writes.
+ */
+public record ProductFacetView(Long id, Long version, Long categoryId, Long brandId,
+                               Product.ProductStatus status, BigDecimal price, Integer stock, Boolean featured) {
+    
+    public static ProductFacetView of(ProductResponse product) {
+        return new ProductFacetView(product.getId(), product.getVersion(), product.getCategoryId(),
+                product.getBrandId(), product.getStatus(), product.getPrice(), product.getStock(),
+                product.getFeatured());
+    }
+}
+
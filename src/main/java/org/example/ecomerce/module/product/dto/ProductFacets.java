@@ -0,0 +1,27 @@
+package org.example.ecomerce.module.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ecomerce.module.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+// Counts over all products matching a filter, not just the returned page
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacets {
+    
+    private Map<Long, Integer> categories;
+    private Map<Long, Integer> brands;
+    private Map<Product.ProductStatus, Integer> statuses;
+    private int featured;
+    private int inStock;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+}
+
@@ -0,0 +1,18 @@
+package org.example.ecomerce.module.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ecomerce.common.response.PageResponse;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterResponse {
+    
+    private PageResponse<ProductResponse> products;
+    private ProductFacets facets;
+}
+
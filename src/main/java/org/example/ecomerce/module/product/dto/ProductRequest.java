@@ -0,0 +1,58 @@
+package org.example.ecomerce.module.product.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRequest {
+    
+    @NotBlank(message = "Product name is required")
+    @Size(min = 3, max = 200, message = "Product name must be between 3 and 200 characters")
+    private String name;
+    
+    @Size(max = 5000, message = "Description too long")
+    private String description;
+    
+    @Size(max = 500, message = "Short description must not exceed 500 characters")
+    private String shortDescription;
+    
+    @NotNull(message = "Price is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price must be positive")
+    private BigDecimal price;
+    
+    @DecimalMin(value = "0.0", message = "Original price must not be negative")
+    private BigDecimal originalPrice;
+    
+    @NotNull(message = "Stock is required")
+    @Min(value = 0, message = "Stock cannot be negative")
+    private Integer stock;
+    
+    @Size(max = 50, message = "SKU must not exceed 50 characters")
+    private String sku;
+    
+    @NotNull(message = "Category is required")
+    private Long categoryId;
+    
+    private Long brandId;
+    
+    private List<@Size(max = 500, message = "Image URL must not exceed 500 characters") String> images;
+    
+    @Size(max = 500, message = "Thumbnail URL must not exceed 500 characters")
+    private String thumbnail;
+    
+    private Boolean featured;
+}
+
@@ -0,0 +1,44 @@
+package org.example.ecomerce.module.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ecomerce.module.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductResponse {
+    
+    private Long id;
+    private String name;
+    private String slug;
+    private String description;
+    private String shortDescription;
+    private BigDecimal price;
+    private BigDecimal originalPrice;
+    private Integer discountPercent;
+    private Integer stock;
+    private Boolean inStock;
+    private String sku;
+    private Long categoryId;
+    private Long brandId;
+    private List<String> images;
+    private String thumbnail;
+    private Product.ProductStatus status;
+    private Boolean featured;
+    private Long viewCount;
+    private Long soldCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+}
+
@@ -0,0 +1,28 @@
+package org.example.ecomerce.module.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.ecomerce.module.product.entity.Product;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchRequest {
+    
+    // Contains match on name and description (SQL search only)
+    private String keyword;
+    
+    private Long categoryId;
+    private Long brandId;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Product.ProductStatus status;
+    private Boolean featured;
+    private Boolean inStock;
+}
+
@@ -0,0 +1,7 @@
+package org.example.ecomerce.module.product.dto;
+
+import org.example.ecomerce.module.product.entity.Product;
+
+public record ProductStock(Integer stock, Product.ProductStatus status, Long version) {
+}
+
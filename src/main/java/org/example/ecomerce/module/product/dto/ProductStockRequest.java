@@ -0,0 +1,18 @@
+package org.example.ecomerce.module.product.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockRequest {
+    
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Stock cannot be negative")
+    private Integer quantity;
+}
+
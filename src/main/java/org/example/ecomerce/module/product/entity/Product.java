@@ -0,0 +1,114 @@
+package org.example.ecomerce.module.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.converter.StringListJsonConverter;
+import org.example.ecomerce.common.entity.BaseEntity;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Soft delete as on User; the composite indexes lead with "deleted" and end with id
+// so the whitelisted sorts and category listings never need a filesort
+@Entity
+@Table(name = "products", uniqueConstraints = {
+        @UniqueConstraint(name = AppConstants.UK_PRODUCTS_NAME, columnNames = "name"),
+        @UniqueConstraint(name = AppConstants.UK_PRODUCTS_SLUG, columnNames = "slug"),
+        @UniqueConstraint(name = AppConstants.UK_PRODUCTS_SKU, columnNames = "sku")
+}, indexes = {
+        @Index(name = "idx_products_deleted_created_at", columnList = "deleted, created_at, id"),
+        @Index(name = "idx_products_deleted_name_id", columnList = "deleted, name, id"),
+        @Index(name = "idx_products_deleted_price_id", columnList = "deleted, price, id"),
+        @Index(name = "idx_products_deleted_category_created_at", columnList = "deleted, category_id, created_at, id"),
+        @Index(name = "idx_products_deleted_featured_created_at", columnList = "deleted, featured, created_at, id")
+})
+@SQLRestriction("deleted = false")
+@SQLDelete(sql = "UPDATE products SET deleted = true, deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND version = ?")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Product extends BaseEntity {
+    
+    @Column(nullable = false, length = 200)
+    private String name;
+    
+    @Column(length = 250)
+    private String slug;
+    
+    @Column(columnDefinition = "TEXT")
+    private String description;
+    
+    @Column(name = "short_description", length = 500)
+    private String shortDescription;
+    
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal price;
+    
+    @Column(name = "original_price", precision = 15, scale = 2)
+    private BigDecimal originalPrice;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer stock = 0;
+    
+    @Column(length = 50)
+    private String sku;
+    
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+    
+    @Column(name = "brand_id")
+    private Long brandId;
+    
+    @Convert(converter = StringListJsonConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @Builder.Default
+    private List<String> images = new ArrayList<>();
+    
+    @Column(length = 500)
+    private String thumbnail;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ProductStatus status = ProductStatus.ACTIVE;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean featured = false;
+    
+    // Only ever incremented by ProductCounterService's batch UPDATE; not updatable so that saving
+    // an entity loaded before a flush cannot write the old counts back
+    @Column(name = "view_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long viewCount = 0L;
+    
+    @Column(name = "sold_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long soldCount = 0L;
+    
+    /**
+     * Keeps the status in line with the stock: an empty product is OUT_OF_STOCK, and a
+     * restocked one goes back to ACTIVE. INACTIVE and DISCONTINUED are left alone.
+     */
+    public void applyStockStatus() {
+        if (stock == 0) {
+            if (status == ProductStatus.ACTIVE) {
+                status = ProductStatus.OUT_OF_STOCK;
+            }
+        } else if (status == ProductStatus.OUT_OF_STOCK) {
+            status = ProductStatus.ACTIVE;
+        }
+    }
+    
+    public enum ProductStatus {
+        ACTIVE, INACTIVE, OUT_OF_STOCK, DISCONTINUED
+    }
+}
+
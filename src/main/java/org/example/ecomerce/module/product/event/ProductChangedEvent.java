@@ -0,0 +1,23 @@
+package org.example.ecomerce.module.product.event;
+
+import org.example.ecomerce.module.product.dto.ProductResponse;
+
+/**
+ * Published by product writes inside the transaction; listeners react after commit.
+ * {@code product} is null when the product was deleted.
+ */
+public record ProductChangedEvent(Long productId, ProductResponse product) {
+    
+    public static ProductChangedEvent saved(ProductResponse product) {
+        return new ProductChangedEvent(product.getId(), product);
+    }
+    
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+    
+    public boolean isDeleted() {
+        return product == null;
+    }
+}
+
@@ -0,0 +1,12 @@
+package org.example.ecomerce.module.product.event;
+
+import org.example.ecomerce.module.product.entity.Product;
+
+/**
+ * Published when a stock reservation moves a product in or out of stock, so listeners can
+ * refresh availability without a full {@link ProductChangedEvent}. {@code version} is the
+ * product version written by the stock update, for ordering against other events.
+ */
+public record ProductStockChangedEvent(Long productId, int stock, Product.ProductStatus status, long version) {
+}
+
@@ -0,0 +1,32 @@
+package org.example.ecomerce.module.product.mapper;
+
+import org.example.ecomerce.common.mapper.EntityMapper;
+import org.example.ecomerce.common.mapper.MapStructConfig;
+import org.example.ecomerce.module.product.dto.ProductResponse;
+import org.example.ecomerce.module.product.entity.Product;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+@Mapper(config = MapStructConfig.class)
+public interface ProductMapper extends EntityMapper<Product, ProductResponse> {
+    
+    @Override
+    @Mapping(target = "discountPercent", expression = "java(discountPercent(product.getPrice(), product.getOriginalPrice()))")
+    @Mapping(target = "inStock", expression = "java(product.getStock() != null && product.getStock() > 0)")
+    ProductResponse toResponse(Product product);
+    
+    // Whole percent off the original price, rounded down; null when there is no discount
+    default Integer discountPercent(BigDecimal price, BigDecimal originalPrice) {
+        if (price == null || originalPrice == null || originalPrice.compareTo(price) <= 0) {
+            return null;
+        }
+        return originalPrice.subtract(price)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(originalPrice, 0, RoundingMode.DOWN)
+                .intValue();
+    }
+}
+
@@ -0,0 +1,99 @@
+package org.example.ecomerce.module.product.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.ecomerce.module.product.dto.ProductFacetView;
+import org.example.ecomerce.module.product.dto.ProductStock;
+import org.example.ecomerce.module.product.entity.Product;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+    
+    Optional<Product> findBySlug(String slug);
+    
+    // Native so soft-deleted rows count too: the unique constraint on slug still covers them.
+    // "!" escapes LIKE wildcards, it never occurs in a slug
+    @Query(value = "SELECT slug FROM products WHERE id <> :excludedId "
+            + "AND (slug = :slug OR slug LIKE :suffixPattern ESCAPE '!')", nativeQuery = true)
+    List<String> findTakenSlugs(@Param("slug") String slug, @Param("suffixPattern") String suffixPattern,
+                                @Param("excludedId") Long excludedId);
+    
+    boolean existsByName(String name);
+    
+    boolean existsBySku(String sku);
+    
+    Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+    
+    Page<Product> findByStatus(Product.ProductStatus status, Pageable pageable);
+    
+    Page<Product> findByFeaturedTrue(Pageable pageable);
+    
+    Page<Product> findByNameContainingIgnoreCase(String keyword, Pageable pageable);
+    
+    Page<Product> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+    
+    @Query("SELECT p FROM Product p WHERE p.stock > 0")
+    Page<Product> findInStockProducts(Pageable pageable);
+    
+    // Filterable columns only, streamed in batches to (re)build the facet index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.ecomerce.module.product.dto.ProductFacetView(p.id, p.version, p.categoryId, "
+            + "p.brandId, p.status, p.price, p.stock, p.featured) FROM Product p ORDER BY p.id")
+    Stream<ProductFacetView> streamFacetViews();
+    
+    // Checkout stock changes are single conditional UPDATEs: buyers never oversell and only hold the
+    // row lock for their own short transaction. The status is assigned first because MySQL evaluates
+    // single-table SET clauses left to right, so it must see the stock before the decrement. The
+    // version is bumped so a product loaded before the change cannot write its stale stock back
+    @Modifying
+    @Query("UPDATE Product p SET p.status = CASE WHEN p.stock = :quantity THEN :outOfStock ELSE p.status END, "
+            + "p.stock = p.stock - :quantity, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.status = :active AND p.stock >= :quantity AND p.deleted = false")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity,
+                       @Param("active") Product.ProductStatus active,
+                       @Param("outOfStock") Product.ProductStatus outOfStock);
+    
+    default int reserveStock(Long id, int quantity) {
+        return decrementStock(id, quantity, Product.ProductStatus.ACTIVE, Product.ProductStatus.OUT_OF_STOCK);
+    }
+    
+    @Modifying
+    @Query("UPDATE Product p SET p.status = CASE WHEN p.status = :outOfStock THEN :active ELSE p.status END, "
+            + "p.stock = p.stock + :quantity, p.version = p.version + 1 WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity,
+                       @Param("active") Product.ProductStatus active,
+                       @Param("outOfStock") Product.ProductStatus outOfStock);
+    
+    default int restoreStock(Long id, int quantity) {
+        return incrementStock(id, quantity, Product.ProductStatus.ACTIVE, Product.ProductStatus.OUT_OF_STOCK);
+    }
+    
+    @Query("SELECT new org.example.ecomerce.module.product.dto.ProductStock(p.stock, p.status, p.version) "
+            + "FROM Product p WHERE p.id = :id")
+    Optional<ProductStock> findStockById(@Param("id") Long id);
+    
+    // Soft delete as a single UPDATE by primary key, see UserRepository#markDeleted
+    @Modifying
+    @Query("UPDATE Product p SET p.deleted = true, p.deletedAt = LOCAL_DATETIME, p.updatedAt = LOCAL_DATETIME "
+            + "WHERE p.id = :id AND p.deleted = false")
+    int markDeleted(@Param("id") Long id);
+    
+    default int softDeleteById(Long id) {
+        return markDeleted(id);
+    }
+}
+
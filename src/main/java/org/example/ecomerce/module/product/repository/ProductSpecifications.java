@@ -0,0 +1,63 @@
+package org.example.ecomerce.module.product.repository;
+
+import org.example.ecomerce.module.product.entity.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+/**
+ * Search predicates for {@link Product}. The keyword is a contains match, so unlike the
+ * user prefix filters it cannot use an index; the structured filters are served by
+ * {@link org.example.ecomerce.module.product.search.ProductFacetIndex} instead.
+ */
+public final class ProductSpecifications {
+    
+    private static final char ESCAPE = '\\';
+    
+    private ProductSpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    public static Specification<Product> keywordContains(String keyword) {
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("name"), likeContains(keyword), ESCAPE),
+                cb.like(root.get("description"), likeContains(keyword), ESCAPE));
+    }
+    
+    public static Specification<Product> hasCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("categoryId"), categoryId);
+    }
+    
+    public static Specification<Product> hasBrand(Long brandId) {
+        return (root, query, cb) -> cb.equal(root.get("brandId"), brandId);
+    }
+    
+    public static Specification<Product> priceFrom(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+    
+    public static Specification<Product> priceTo(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+    
+    public static Specification<Product> hasStatus(Product.ProductStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+    
+    public static Specification<Product> isFeatured(boolean featured) {
+        return (root, query, cb) -> cb.equal(root.get("featured"), featured);
+    }
+    
+    public static Specification<Product> inStock(boolean inStock) {
+        return (root, query, cb) -> inStock
+                ? cb.greaterThan(root.get("stock"), 0)
+                : cb.equal(root.get("stock"), 0);
+    }
+    
+    private static String likeContains(String keyword) {
+        return "%" + keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
+
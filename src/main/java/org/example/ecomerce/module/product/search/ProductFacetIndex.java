@@ -0,0 +1,468 @@
+package org.example.ecomerce.module.product.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.module.product.dto.ProductFacetView;
+import org.example.ecomerce.module.product.dto.ProductFacets;
+import org.example.ecomerce.module.product.dto.ProductSearchRequest;
+import org.example.ecomerce.module.product.entity.Product;
+import org.example.ecomerce.module.product.event.ProductChangedEvent;
+import org.example.ecomerce.module.product.event.ProductStockChangedEvent;
+import org.example.ecomerce.module.product.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * In-memory filter and facet index over the catalog. Every product occupies a slot; category,
+ * brand, status, featured and in-stock are bitmaps over the slots and live slots are kept in
+ * a price-sorted array, so a filter is a few bitmap ANDs plus one binary-searched price range,
+ * and all facet counts come from a single pass over the matches. Built from the database at
+ * startup and kept current from {@link ProductChangedEvent}s after commit.
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    // Sequence ids start at 1, so 0 marks a product without a brand
+    private static final long NO_BRAND = 0;
+    private static final Product.ProductStatus[] STATUSES = Product.ProductStatus.values();
+    
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // Per-slot columns; a slot is reused once its product is deleted
+    private long[] ids;
+    private long[] versions;
+    // Version of the latest availability (stock and status) write, which stock events can advance
+    // past the version of the last full upsert
+    private long[] stockVersions;
+    private long[] categories;
+    private long[] brands;
+    private long[] prices;
+    private byte[] statuses;
+    private int slotCount;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    // Tombstones: a delete is final (soft deletes are never undone and ids are never reused), so it
+    // outranks every version; kept across rebuilds since a late upsert may still be in flight
+    private final Set<Long> deletedIds = new HashSet<>();
+    
+    private final BitSet live = new BitSet();
+    private final BitSet featured = new BitSet();
+    private final BitSet inStock = new BitSet();
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private final Map<Long, BitSet> byBrand = new HashMap<>();
+    private final Map<Product.ProductStatus, BitSet> byStatus = new EnumMap<>(Product.ProductStatus.class);
+    
+    // Live slots ordered by (price, id)
+    private int[] priceOrder;
+    private int priceOrderSize;
+    
+    public ProductFacetIndex(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        reset();
+    }
+    
+    /**
+     * Reloads the index from the database. Readers wait for the rebuild instead of seeing
+     * a partial catalog; events arriving meanwhile are applied after it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ProductFacetView> products = productRepository.streamFacetViews()) {
+                    products.forEach(product -> writeSlot(allocateSlot(product.id()), product));
+                }
+            });
+            // One sort instead of an insertion per product
+            priceOrder = IntStream.range(0, slotCount)
+                    .filter(live::get)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingLong(slot -> prices[slot]).thenComparingLong(slot -> ids[slot]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            priceOrderSize = priceOrder.length;
+            priceOrder = Arrays.copyOf(priceOrder, ids.length);
+            log.info("Product facet index built with {} products", slotById.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isDeleted()) {
+                remove(event.productId());
+            } else {
+                upsert(ProductFacetView.of(event.product()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Availability only. A reserve and a release of the same product can commit in one order and
+    // deliver their after-commit events in the other, so events older than the slot's are dropped
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductStockChanged(ProductStockChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(event.productId());
+            if (slot == null || stockVersions[slot] >= event.version()) {
+                return;
+            }
+            setAvailability(slot, event.stock() > 0, event.status());
+            stockVersions[slot] = event.version();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns one page of matching product ids, ordered by price or by id (newest first when
+     * descending), together with the total and the facet counts of all matches.
+     */
+    public FacetResult filter(ProductSearchRequest criteria, boolean sortByPrice, boolean ascending,
+                              int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) live.clone();
+            if (criteria.getCategoryId() != null) {
+                and(matches, byCategory.get(criteria.getCategoryId()));
+            }
+            if (criteria.getBrandId() != null) {
+                and(matches, byBrand.get(criteria.getBrandId()));
+            }
+            if (criteria.getStatus() != null) {
+                and(matches, byStatus.get(criteria.getStatus()));
+            }
+            if (criteria.getFeatured() != null) {
+                andFlag(matches, featured, criteria.getFeatured());
+            }
+            if (criteria.getInStock() != null) {
+                andFlag(matches, inStock, criteria.getInStock());
+            }
+            
+            int from = criteria.getMinPrice() == null ? 0
+                    : pricePosition(toMinorUnits(criteria.getMinPrice(), RoundingMode.CEILING), Long.MIN_VALUE);
+            int to = criteria.getMaxPrice() == null ? priceOrderSize
+                    : pricePosition(toMinorUnits(criteria.getMaxPrice(), RoundingMode.FLOOR), Long.MAX_VALUE);
+            if (from > 0 || to < priceOrderSize) {
+                BitSet inRange = new BitSet(slotCount);
+                for (int i = from; i < to; i++) {
+                    inRange.set(priceOrder[i]);
+                }
+                matches.and(inRange);
+            }
+            
+            List<Long> page = sortByPrice
+                    ? pageByPrice(matches, from, to, ascending, offset, limit)
+                    : pageById(matches, ascending, offset, limit);
+            return new FacetResult(page, matches.cardinality(), countFacets(matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private ProductFacets countFacets(BitSet matches) {
+        Map<Long, Integer> categoryCounts = new HashMap<>();
+        Map<Long, Integer> brandCounts = new HashMap<>();
+        int[] statusCounts = new int[STATUSES.length];
+        int featuredCount = 0;
+        int inStockCount = 0;
+        long minPrice = Long.MAX_VALUE;
+        long maxPrice = Long.MIN_VALUE;
+        
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            categoryCounts.merge(categories[slot], 1, Integer::sum);
+            if (brands[slot] != NO_BRAND) {
+                brandCounts.merge(brands[slot], 1, Integer::sum);
+            }
+            statusCounts[statuses[slot]]++;
+            if (featured.get(slot)) {
+                featuredCount++;
+            }
+            if (inStock.get(slot)) {
+                inStockCount++;
+            }
+            minPrice = Math.min(minPrice, prices[slot]);
+            maxPrice = Math.max(maxPrice, prices[slot]);
+        }
+        
+        Map<Product.ProductStatus, Integer> statusFacet = new EnumMap<>(Product.ProductStatus.class);
+        for (int i = 0; i < statusCounts.length; i++) {
+            if (statusCounts[i] > 0) {
+                statusFacet.put(STATUSES[i], statusCounts[i]);
+            }
+        }
+        
+        boolean empty = matches.isEmpty();
+        return ProductFacets.builder()
+                .categories(categoryCounts)
+                .brands(brandCounts)
+                .statuses(statusFacet)
+                .featured(featuredCount)
+                .inStock(inStockCount)
+                .minPrice(empty ? null : BigDecimal.valueOf(minPrice, 2))
+                .maxPrice(empty ? null : BigDecimal.valueOf(maxPrice, 2))
+                .build();
+    }
+    
+    // Walks the (already range-limited) price order and picks the matching slots of the page
+    private List<Long> pageByPrice(BitSet matches, int from, int to, boolean ascending, int offset, int limit) {
+        List<Long> page = new ArrayList<>(limit);
+        int skipped = 0;
+        for (int i = 0; i < to - from && page.size() < limit; i++) {
+            int slot = priceOrder[ascending ? from + i : to - 1 - i];
+            if (matches.get(slot) && skipped++ >= offset) {
+                page.add(ids[slot]);
+            }
+        }
+        return page;
+    }
+    
+    private List<Long> pageById(BitSet matches, boolean ascending, int offset, int limit) {
+        long[] matchingIds = new long[matches.cardinality()];
+        int count = 0;
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            matchingIds[count++] = ids[slot];
+        }
+        Arrays.sort(matchingIds);
+        
+        List<Long> page = new ArrayList<>(limit);
+        for (int i = offset; i < count && page.size() < limit; i++) {
+            page.add(matchingIds[ascending ? i : count - 1 - i]);
+        }
+        return page;
+    }
+    
+    private void upsert(ProductFacetView product) {
+        // The after-commit event of a write that committed before the delete can arrive after it
+        if (deletedIds.contains(product.id())) {
+            return;
+        }
+        
+        Integer slot = slotById.get(product.id());
+        if (slot == null) {
+            slot = allocateSlot(product.id());
+            writeSlot(slot, product);
+            insertIntoPriceOrder(slot);
+            return;
+        }
+        
+        // After-commit events of concurrent writes can arrive out of order
+        long version = product.version() != null ? product.version() : 0;
+        if (versions[slot] > version) {
+            return;
+        }
+        // A stock event newer than this write already carries the current availability
+        boolean keepAvailability = stockVersions[slot] > version;
+        boolean available = inStock.get(slot);
+        Product.ProductStatus status = STATUSES[statuses[slot]];
+        long stockVersion = stockVersions[slot];
+        
+        removeFromPriceOrder(slot);
+        clearSlot(slot);
+        writeSlot(slot, product);
+        insertIntoPriceOrder(slot);
+        if (keepAvailability) {
+            setAvailability(slot, available, status);
+            stockVersions[slot] = stockVersion;
+        }
+    }
+    
+    private void setAvailability(int slot, boolean available, Product.ProductStatus status) {
+        inStock.set(slot, available);
+        clearBit(byStatus, STATUSES[statuses[slot]], slot);
+        statuses[slot] = (byte) status.ordinal();
+        byStatus.computeIfAbsent(status, key -> new BitSet()).set(slot);
+    }
+    
+    private void remove(Long id) {
+        deletedIds.add(id);
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        removeFromPriceOrder(slot);
+        clearSlot(slot);
+        freeSlots.push(slot);
+    }
+    
+    private int allocateSlot(Long id) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount == ids.length) {
+                grow();
+            }
+            slot = slotCount++;
+        }
+        slotById.put(id, slot);
+        return slot;
+    }
+    
+    private void writeSlot(int slot, ProductFacetView product) {
+        ids[slot] = product.id();
+        versions[slot] = product.version() != null ? product.version() : 0;
+        stockVersions[slot] = versions[slot];
+        categories[slot] = product.categoryId();
+        brands[slot] = product.brandId() != null ? product.brandId() : NO_BRAND;
+        prices[slot] = toMinorUnits(product.price(), RoundingMode.HALF_UP);
+        statuses[slot] = (byte) product.status().ordinal();
+        
+        live.set(slot);
+        byCategory.computeIfAbsent(categories[slot], key -> new BitSet()).set(slot);
+        if (brands[slot] != NO_BRAND) {
+            byBrand.computeIfAbsent(brands[slot], key -> new BitSet()).set(slot);
+        }
+        byStatus.computeIfAbsent(product.status(), key -> new BitSet()).set(slot);
+        featured.set(slot, Boolean.TRUE.equals(product.featured()));
+        inStock.set(slot, product.stock() != null && product.stock() > 0);
+    }
+    
+    private void clearSlot(int slot) {
+        live.clear(slot);
+        featured.clear(slot);
+        inStock.clear(slot);
+        clearBit(byCategory, categories[slot], slot);
+        if (brands[slot] != NO_BRAND) {
+            clearBit(byBrand, brands[slot], slot);
+        }
+        clearBit(byStatus, STATUSES[statuses[slot]], slot);
+    }
+    
+    private void insertIntoPriceOrder(int slot) {
+        int position = pricePosition(prices[slot], ids[slot]);
+        System.arraycopy(priceOrder, position, priceOrder, position + 1, priceOrderSize - position);
+        priceOrder[position] = slot;
+        priceOrderSize++;
+    }
+    
+    // Must run before the slot's price or id is overwritten
+    private void removeFromPriceOrder(int slot) {
+        int position = pricePosition(prices[slot], ids[slot]);
+        System.arraycopy(priceOrder, position + 1, priceOrder, position, priceOrderSize - position - 1);
+        priceOrderSize--;
+    }
+    
+    // First position in the price order whose (price, id) is not below the given one
+    private int pricePosition(long price, long id) {
+        int low = 0;
+        int high = priceOrderSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int slot = priceOrder[mid];
+            if (prices[slot] < price || (prices[slot] == price && ids[slot] < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        stockVersions = Arrays.copyOf(stockVersions, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        brands = Arrays.copyOf(brands, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        priceOrder = Arrays.copyOf(priceOrder, capacity);
+    }
+    
+    private void reset() {
+        ids = new long[INITIAL_CAPACITY];
+        versions = new long[INITIAL_CAPACITY];
+        stockVersions = new long[INITIAL_CAPACITY];
+        categories = new long[INITIAL_CAPACITY];
+        brands = new long[INITIAL_CAPACITY];
+        prices = new long[INITIAL_CAPACITY];
+        statuses = new byte[INITIAL_CAPACITY];
+        priceOrder = new int[INITIAL_CAPACITY];
+        priceOrderSize = 0;
+        slotCount = 0;
+        freeSlots.clear();
+        slotById.clear();
+        live.clear();
+        featured.clear();
+        inStock.clear();
+        byCategory.clear();
+        byBrand.clear();
+        byStatus.clear();
+    }
+    
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K key, int slot) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(slot);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+    
+    private static void and(BitSet matches, BitSet bitmap) {
+        if (bitmap == null) {
+            matches.clear();
+        } else {
+            matches.and(bitmap);
+        }
+    }
+    
+    private static void andFlag(BitSet matches, BitSet flag, boolean value) {
+        if (value) {
+            matches.and(flag);
+        } else {
+            matches.andNot(flag);
+        }
+    }
+    
+    // Prices are compared in cents; out-of-range filter bounds simply match everything or nothing
+    private static long toMinorUnits(BigDecimal amount, RoundingMode roundingMode) {
+        try {
+            return amount.setScale(2, roundingMode).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            return amount.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+    }
+    
+    public record FacetResult(List<Long> ids, int total, ProductFacets facets) {
+    }
+}
+
@@ -0,0 +1,160 @@
+package org.example.ecomerce.module.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view and sold counters. Increments land in a {@link LongAdder} per product and
+ * are flushed as batched {@code col = col + ?} UPDATEs every flush interval, so a product view
+ * is not a write and hot rows see one UPDATE per interval instead of one per event. Increments
+ * not yet flushed (at most one interval's worth) are lost if the process dies; a clean shutdown
+ * flushes them.
+ */
+@Slf4j
+@Service
+public class ProductCounterService {
+    
+    private static final String FLUSH_SQL =
+            "UPDATE products SET view_count = view_count + ?, sold_count = sold_count + ? WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+    private volatile long lastFlushNanos = System.nanoTime();
+    
+    public ProductCounterService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.product.counters.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        
+        this.flushTimer = Timer.builder("product.counters.flush")
+                .description("Time to write pending product counter increments")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("product.counters.flush.failures")
+                .description("Failed product counter flushes, retried on the next run")
+                .register(meterRegistry);
+        TimeGauge.builder("product.counters.flush.lag", this, TimeUnit.NANOSECONDS,
+                        service -> System.nanoTime() - service.lastFlushNanos)
+                .description("Time since pending product counters were last written")
+                .register(meterRegistry);
+        Gauge.builder("product.counters.pending", this, ProductCounterService::pendingIncrements)
+                .description("Product counter increments not yet written")
+                .register(meterRegistry);
+    }
+    
+    public void recordView(Long productId) {
+        counters(productId).views.increment();
+    }
+    
+    // Counted only once the surrounding transaction (e.g. a reservation commit) has committed
+    public void recordSale(Long productId, long quantity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counters(productId).sold.add(quantity);
+                }
+            });
+        } else {
+            counters(productId).sold.add(quantity);
+        }
+    }
+    
+    /**
+     * Writes the increments accumulated since the last successful flush. Adders are never reset:
+     * each entry remembers how much it already wrote, so increments racing with a flush are
+     * picked up by the next one and a failed batch is simply retried.
+     */
+    @Scheduled(fixedDelayString = "${app.product.counters.flush-interval}",
+            initialDelayString = "${app.product.counters.flush-interval}")
+    public synchronized void flush() {
+        List<Pending> pending = new ArrayList<>();
+        counters.forEach((productId, entry) -> {
+            long views = entry.views.sum() - entry.flushedViews;
+            long sold = entry.sold.sum() - entry.flushedSold;
+            if (views != 0 || sold != 0) {
+                pending.add(new Pending(productId, entry, views, sold));
+            }
+        });
+        
+        if (pending.isEmpty()) {
+            lastFlushNanos = System.nanoTime();
+            return;
+        }
+        
+        try {
+            flushTimer.record(() -> {
+                for (int from = 0; from < pending.size(); from += batchSize) {
+                    List<Pending> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+                    // All-or-nothing per chunk, so a retry never applies an increment twice
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL,
+                            chunk.stream().map(p -> new Object[]{p.views(), p.sold(), p.productId()}).toList()));
+                    chunk.forEach(p -> {
+                        p.entry().flushedViews += p.views();
+                        p.entry().flushedSold += p.sold();
+                    });
+                }
+            });
+            lastFlushNanos = System.nanoTime();
+            log.debug("Flushed counters of {} products", pending.size());
+        } catch (RuntimeException ex) {
+            flushFailures.increment();
+            log.error("Failed to flush product counters, retrying on the next run", ex);
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+    
+    private Counters counters(Long productId) {
+        return counters.computeIfAbsent(productId, id -> new Counters());
+    }
+    
+    private double pendingIncrements() {
+        long total = 0;
+        for (Counters entry : counters.values()) {
+            total += entry.views.sum() - entry.flushedViews + entry.sold.sum() - entry.flushedSold;
+        }
+        return total;
+    }
+    
+    // Entries live as long as the process: one small object per product that was viewed or sold
+    private static final class Counters {
+        
+        private final LongAdder views = new LongAdder();
+        private final LongAdder sold = new LongAdder();
+        // Written only under the flush lock; read by the pending gauge
+        private volatile long flushedViews;
+        private volatile long flushedSold;
+    }
+    
+    private record Pending(Long productId, Counters entry, long views, long sold) {
+    }
+}
+
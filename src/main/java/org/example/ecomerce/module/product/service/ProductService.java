@@ -0,0 +1,277 @@
+package org.example.ecomerce.module.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.exception.BadRequestException;
+import org.example.ecomerce.common.exception.ResourceNotFoundException;
+import org.example.ecomerce.common.logging.LogMarkers;
+import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.common.util.StringUtil;
+import org.example.ecomerce.module.product.dto.ProductFilterResponse;
+import org.example.ecomerce.module.product.dto.ProductRequest;
+import org.example.ecomerce.module.product.dto.ProductResponse;
+import org.example.ecomerce.module.product.dto.ProductSearchRequest;
+import org.example.ecomerce.module.product.entity.Product;
+import org.example.ecomerce.module.product.event.ProductChangedEvent;
+import org.example.ecomerce.module.product.mapper.ProductMapper;
+import org.example.ecomerce.module.product.repository.ProductRepository;
+import org.example.ecomerce.module.product.repository.ProductSpecifications;
+import org.example.ecomerce.module.product.search.ProductFacetIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductService {
+    
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductCounterService productCounterService;
+    private final ProductSlugService productSlugService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> getAllProducts(Pageable pageable) {
+        log.debug(LogMarkers.SAMPLED, "Getting all products with page: {}", pageable.getPageNumber());
+        
+        Page<Product> productPage = productRepository.findAll(pageable);
+        return PageResponse.of(productPage.map(productMapper::toResponse));
+    }
+    
+    @Transactional(readOnly = true)
+    public ProductResponse getProductById(Long id) {
+        log.debug(LogMarkers.SAMPLED, "Getting product by id: {}", id);
+        
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        return productMapper.toResponse(product);
+    }
+    
+    // The page view is counted in memory (see ProductCounterService), so this stays a read.
+    // Hot slugs resolve to an id from the cache and load by primary key instead of the slug index
+    @Transactional(readOnly = true)
+    public ProductResponse getProductBySlug(String slug) {
+        log.debug(LogMarkers.SAMPLED, "Getting product by slug: {}", slug);
+        
+        Product product = findBySlugViaCache(slug);
+        productCounterService.recordView(product.getId());
+        return productMapper.toResponse(product);
+    }
+    
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> searchProducts(ProductSearchRequest request, Pageable pageable) {
+        log.debug(LogMarkers.SAMPLED, "Searching products with: {}", request);
+        
+        Specification<Product> spec = Specification.unrestricted();
+        if (!StringUtil.isNullOrEmpty(request.getKeyword())) {
+            spec = spec.and(ProductSpecifications.keywordContains(request.getKeyword().trim()));
+        }
+        if (request.getCategoryId() != null) {
+            spec = spec.and(ProductSpecifications.hasCategory(request.getCategoryId()));
+        }
+        if (request.getBrandId() != null) {
+            spec = spec.and(ProductSpecifications.hasBrand(request.getBrandId()));
+        }
+        if (request.getMinPrice() != null) {
+            spec = spec.and(ProductSpecifications.priceFrom(request.getMinPrice()));
+        }
+        if (request.getMaxPrice() != null) {
+            spec = spec.and(ProductSpecifications.priceTo(request.getMaxPrice()));
+        }
+        if (request.getStatus() != null) {
+            spec = spec.and(ProductSpecifications.hasStatus(request.getStatus()));
+        }
+        if (request.getFeatured() != null) {
+            spec = spec.and(ProductSpecifications.isFeatured(request.getFeatured()));
+        }
+        if (request.getInStock() != null) {
+            spec = spec.and(ProductSpecifications.inStock(request.getInStock()));
+        }
+        
+        Page<Product> productPage = productRepository.findAll(spec, pageable);
+        return PageResponse.of(productPage.map(productMapper::toResponse));
+    }
+    
+    /**
+     * Structured catalog filter answered by the in-memory facet index: matching ids, the total
+     * and the facet counts come without SQL, then only the page itself is loaded by primary key.
+     * The pageable must be sorted by price or id.
+     */
+    public ProductFilterResponse filterProducts(ProductSearchRequest request, Pageable pageable) {
+        log.debug(LogMarkers.SAMPLED, "Filtering products with: {}", request);
+        
+        if (!StringUtil.isNullOrEmpty(request.getKeyword())) {
+            throw new BadRequestException("Keyword is not supported by the filter, use /api/v1/products/search");
+        }
+        
+        Sort.Order priceOrder = pageable.getSort().getOrderFor("price");
+        Sort.Order order = priceOrder != null ? priceOrder : pageable.getSort().getOrderFor("id");
+        boolean ascending = order == null || order.isAscending();
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        
+        ProductFacetIndex.FacetResult result = productFacetIndex.filter(request, priceOrder != null, ascending,
+                offset, pageable.getPageSize());
+        
+        Page<ProductResponse> page = new PageImpl<>(findAllInOrder(result.ids()), pageable, result.total());
+        return ProductFilterResponse.builder()
+                .products(PageResponse.of(page))
+                .facets(result.facets())
+                .build();
+    }
+    
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> getFeaturedProducts(Pageable pageable) {
+        log.debug(LogMarkers.SAMPLED, "Getting featured products with page: {}", pageable.getPageNumber());
+        
+        Page<Product> productPage = productRepository.findByFeaturedTrue(pageable);
+        return PageResponse.of(productPage.map(productMapper::toResponse));
+    }
+    
+    @Transactional(readOnly = true)
+    public PageResponse<ProductResponse> getProductsByCategory(Long categoryId, Pageable pageable) {
+        log.debug(LogMarkers.SAMPLED, "Getting products of category: {}", categoryId);
+        
+        Page<Product> productPage = productRepository.findByCategoryId(categoryId, pageable);
+        return PageResponse.of(productPage.map(productMapper::toResponse));
+    }
+    
+    // Name, slug and SKU uniqueness is enforced by the unique constraints on products, so a
+    // duplicate surfaces as DataIntegrityViolationException (409), as for users
+    @Transactional
+    public ProductResponse createProduct(ProductRequest request) {
+        log.info("Creating new product with name: {}", request.getName());
+        
+        Product product = new Product();
+        applyRequest(product, request);
+        product.setStock(request.getStock());
+        product.setStatus(Product.ProductStatus.ACTIVE);
+        product.applyStockStatus();
+        
+        Product savedProduct = productRepository.saveAndFlush(product);
+        log.info("Product created successfully with id: {}", savedProduct.getId());
+        
+        ProductResponse response = productMapper.toResponse(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(response));
+        return response;
+    }
+    
+    // Stock is only set on create: afterwards it belongs to updateStock and the reservations, so a
+    // client that read the product earlier cannot overwrite units reserved since then
+    @Transactional
+    public ProductResponse updateProduct(Long id, ProductRequest request) {
+        log.info("Updating product with id: {}", id);
+        
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        String previousSlug = product.getSlug();
+        
+        applyRequest(product, request);
+        product.applyStockStatus();
+        
+        Product updatedProduct = productRepository.saveAndFlush(product);
+        log.info("Product updated successfully with id: {}", updatedProduct.getId());
+        if (previousSlug != null && !previousSlug.equals(updatedProduct.getSlug())) {
+            productSlugService.evict(previousSlug);
+        }
+        
+        ProductResponse response = productMapper.toResponse(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(response));
+        return response;
+    }
+    
+    @Transactional
+    public ProductResponse updateStock(Long id, Integer quantity) {
+        log.info("Updating stock of product {} to {}", id, quantity);
+        
+        if (quantity == null || quantity < 0) {
+            throw new BadRequestException("Stock cannot be negative");
+        }
+        
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        product.setStock(quantity);
+        product.applyStockStatus();
+        
+        ProductResponse response = productMapper.toResponse(productRepository.saveAndFlush(product));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(response));
+        return response;
+    }
+    
+    @Transactional
+    public void deleteProduct(Long id) {
+        log.info("Deleting product with id: {}", id);
+        
+        if (productRepository.softDeleteById(id) == 0) {
+            throw new ResourceNotFoundException("Product", "id", id);
+        }
+        
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+        log.info("Product deleted successfully with id: {}", id);
+    }
+    
+    private void applyRequest(Product product, ProductRequest request) {
+        product.setName(request.getName().trim());
+        productSlugService.assignSlug(product);
+        product.setDescription(request.getDescription());
+        product.setShortDescription(request.getShortDescription());
+        product.setPrice(request.getPrice());
+        product.setOriginalPrice(request.getOriginalPrice());
+        product.setSku(StringUtil.isNullOrEmpty(request.getSku()) ? null : request.getSku().trim());
+        product.setCategoryId(request.getCategoryId());
+        product.setBrandId(request.getBrandId());
+        product.setImages(request.getImages() != null ? new ArrayList<>(request.getImages()) : new ArrayList<>());
+        product.setThumbnail(request.getThumbnail());
+        product.setFeatured(Boolean.TRUE.equals(request.getFeatured()));
+    }
+    
+    // A stale mapping (product deleted or renamed) is dropped and the slug looked up again
+    private Product findBySlugViaCache(String slug) {
+        Long cachedId = productSlugService.getCachedId(slug);
+        if (cachedId != null) {
+            Optional<Product> cached = productRepository.findById(cachedId)
+                    .filter(product -> slug.equals(product.getSlug()));
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            productSlugService.evict(slug);
+        }
+        
+        Product product = productRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "slug", slug));
+        productSlugService.cacheId(slug, product.getId());
+        return product;
+    }
+    
+    // Loads the given products by primary key, keeping the order of the ids; ids deleted
+    // since they were read from the index simply drop out
+    private List<ProductResponse> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Integer> rank = new HashMap<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return productRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(product -> rank.get(product.getId())))
+                .map(productMapper::toResponse)
+                .toList();
+    }
+}
+
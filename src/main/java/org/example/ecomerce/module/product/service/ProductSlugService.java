@@ -0,0 +1,113 @@
+package org.example.ecomerce.module.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.util.SlugNormalizer;
+import org.example.ecomerce.module.product.entity.Product;
+import org.example.ecomerce.module.product.repository.ProductRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Product slugs: generation with a numeric suffix on collision ("ao-thun", "ao-thun-2", ...) and
+ * the slug to id cache used by the product page. Slugs are normalized with {@link SlugNormalizer}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSlugService {
+    
+    // Product names without a single Latin letter or digit
+    private static final String FALLBACK_SLUG = "product";
+    private static final int MAX_SUFFIX_DIGITS = 9;
+    
+    private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+    
+    /**
+     * Sets a slug derived from the product name. A product keeps its current slug while the name
+     * still maps to it, otherwise one query fetches the base slug and its suffixed variants and the
+     * lowest free suffix is taken. Two products created concurrently with colliding names can
+     * still pick the same slug; the unique constraint rejects the second one (409).
+     */
+    public void assignSlug(Product product) {
+        String base = SlugNormalizer.normalize(product.getName());
+        if (base.isEmpty()) {
+            base = FALLBACK_SLUG;
+        }
+        if (product.getSlug() != null && suffixOf(base, product.getSlug()) >= 0) {
+            return;
+        }
+        
+        String pattern = escapeLike(base) + "-%";
+        // Ids start at 1, so 0 excludes nothing for a new product
+        Long excludedId = product.getId() != null ? product.getId() : 0L;
+        List<String> taken = productRepository.findTakenSlugs(base, pattern, excludedId);
+        product.setSlug(firstFree(base, taken));
+    }
+    
+    public Long getCachedId(String slug) {
+        return productIdsBySlug().get(slug, Long.class);
+    }
+    
+    public void cacheId(String slug, Long id) {
+        productIdsBySlug().put(slug, id);
+    }
+    
+    public void evict(String slug) {
+        productIdsBySlug().evict(slug);
+    }
+    
+    private static String firstFree(String base, List<String> taken) {
+        Set<Integer> suffixes = new HashSet<>();
+        for (String slug : taken) {
+            suffixes.add(suffixOf(base, slug));
+        }
+        if (!suffixes.contains(0)) {
+            return base;
+        }
+        
+        int suffix = 2;
+        while (suffixes.contains(suffix)) {
+            suffix++;
+        }
+        return base + "-" + suffix;
+    }
+    
+    // 0 for the base slug itself, n for "base-n", -1 for anything else
+    private static int suffixOf(String base, String slug) {
+        if (slug.equals(base)) {
+            return 0;
+        }
+        int start = base.length() + 1;
+        int digits = slug.length() - start;
+        if (digits < 1 || digits > MAX_SUFFIX_DIGITS || !slug.startsWith(base)
+                || slug.charAt(base.length()) != '-' || slug.charAt(start) == '0') {
+            return -1;
+        }
+        
+        int suffix = 0;
+        for (int i = start; i < slug.length(); i++) {
+            char c = slug.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            suffix = suffix * 10 + (c - '0');
+        }
+        return suffix >= 2 ? suffix : -1;
+    }
+    
+    private static String escapeLike(String slug) {
+        return slug.replace("_", "!_");
+    }
+    
+    private Cache productIdsBySlug() {
+        return Objects.requireNonNull(cacheManager.getCache(AppConstants.CACHE_PRODUCT_IDS_BY_SLUG));
+    }
+}
+
@@ -0,0 +1,29 @@
+package org.example.ecomerce.module.upload.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.response.ApiResponse;
+import org.example.ecomerce.module.upload.dto.UploadResponse;
+import org.example.ecomerce.module.upload.service.ImageUploadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/v1/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+    
+    private final ImageUploadService imageUploadService;
+    
+    @PostMapping(value = "/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<UploadResponse>> uploadImage(@RequestParam("file") MultipartFile file) {
+        UploadResponse upload = imageUploadService.uploadImage(file);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(AppConstants.CREATED, upload));
+    }
+}
+
@@ -0,0 +1,25 @@
+package org.example.ecomerce.module.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadResponse {
+    
+    private String key;
+    private String url;
+    // Generated asynchronously, may not be available yet right after the upload;
+    // null when no thumbnail will be generated (pool saturated or image above the pixel limit)
+    private String thumbnailUrl;
+    private String contentType;
+    private Long size;
+    private String sha256;
+    // Same content was uploaded before and is served from the existing object
+    private Boolean duplicate;
+}
+
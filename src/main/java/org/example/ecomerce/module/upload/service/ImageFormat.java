@@ -0,0 +1,66 @@
+package org.example.ecomerce.module.upload.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Image formats accepted for upload, recognized by their leading magic bytes rather than the
+ * client supplied content type. GIF thumbnails are written as PNG.
+ */
+enum ImageFormat {
+    
+    JPEG("image/jpeg", "jpg", "jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("image/png", "png", "png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    GIF("image/gif", "gif", "png", new byte[]{'G', 'I', 'F', '8'});
+    
+    private static final int MAX_SIGNATURE_LENGTH = 8;
+    
+    private final String contentType;
+    private final String extension;
+    private final String thumbnailFormat;
+    private final byte[] signature;
+    
+    ImageFormat(String contentType, String extension, String thumbnailFormat, byte[] signature) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.thumbnailFormat = thumbnailFormat;
+        this.signature = signature;
+    }
+    
+    /**
+     * Peeks at the first bytes of the stream, which must support mark/reset, and leaves it
+     * positioned at the start. Returns null for anything that is not a supported image.
+     */
+    static ImageFormat detect(InputStream in) throws IOException {
+        in.mark(MAX_SIGNATURE_LENGTH);
+        byte[] header = in.readNBytes(MAX_SIGNATURE_LENGTH);
+        in.reset();
+        
+        for (ImageFormat format : values()) {
+            if (header.length >= format.signature.length
+                    && Arrays.equals(header, 0, format.signature.length, format.signature, 0, format.signature.length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+    
+    String contentType() {
+        return contentType;
+    }
+    
+    String extension() {
+        return extension;
+    }
+    
+    // ImageIO writer name, also used as the thumbnail file extension
+    String thumbnailFormat() {
+        return thumbnailFormat;
+    }
+    
+    String thumbnailContentType() {
+        return "image/" + thumbnailFormat;
+    }
+}
+
@@ -0,0 +1,164 @@
+package org.example.ecomerce.module.upload.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.example.ecomerce.common.exception.BadRequestException;
+import org.example.ecomerce.common.storage.StorageService;
+import org.example.ecomerce.module.upload.dto.UploadResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Image uploads. The multipart body is streamed once into a staging file while its SHA-256 is
+ * computed, so no upload is held on the heap, and the hash becomes the storage key: uploading
+ * the same image twice stores it once. Thumbnails are generated asynchronously by
+ * {@link ThumbnailService} and appear at {@code thumbnailUrl} shortly after the upload; the
+ * URL is only returned when the thumbnail exists or was queued.
+ */
+@Slf4j
+@Service
+public class ImageUploadService {
+    
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(AppConstants.ALLOWED_IMAGE_TYPES);
+    private static final String STAGING_PREFIX = "upload-";
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    // Staging files of uploads interrupted by a crash are removed on the next start
+    private static final Duration STALE_STAGING_AGE = Duration.ofHours(1);
+    
+    private final StorageService storageService;
+    private final ThumbnailService thumbnailService;
+    private final Path stagingDir;
+    
+    public ImageUploadService(StorageService storageService, ThumbnailService thumbnailService,
+                              @Value("${app.upload.staging-dir}") String stagingDir) {
+        this.storageService = storageService;
+        this.thumbnailService = thumbnailService;
+        this.stagingDir = Path.of(stagingDir).toAbsolutePath().normalize();
+    }
+    
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(stagingDir);
+        Instant staleBefore = Instant.now().minus(STALE_STAGING_AGE);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(staleBefore)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+    
+    public UploadResponse uploadImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("File is required");
+        }
+        if (file.getSize() > AppConstants.MAX_FILE_SIZE) {
+            throw new AppException(ErrorCode.FILE_TOO_LARGE,
+                    "File exceeds the limit of " + AppConstants.MAX_FILE_SIZE / (1024 * 1024) + "MB");
+        }
+        if (!ALLOWED_CONTENT_TYPES.contains(file.getContentType())) {
+            throw new AppException(ErrorCode.INVALID_FILE_TYPE, "Only JPEG, PNG and GIF images are allowed");
+        }
+        
+        Path staged = null;
+        boolean handedOff = false;
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            ImageFormat format = ImageFormat.detect(in);
+            if (format == null) {
+                throw new AppException(ErrorCode.INVALID_FILE_TYPE, "File content is not a JPEG, PNG or GIF image");
+            }
+            
+            staged = Files.createTempFile(stagingDir, STAGING_PREFIX, ".tmp");
+            MessageDigest digest = sha256();
+            long size = stage(new DigestInputStream(in, digest), staged);
+            String hash = HexFormat.of().formatHex(digest.digest());
+            
+            String key = key("images", hash, format.extension());
+            String thumbnailKey = key("thumbnails", hash, format.thumbnailFormat());
+            boolean duplicate = storageService.exists(key);
+            if (!duplicate) {
+                storageService.store(key, staged, format.contentType());
+            }
+            // A duplicate only needs a thumbnail if generating it failed the first time
+            boolean thumbnailExists = duplicate && storageService.exists(thumbnailKey);
+            if (!thumbnailExists) {
+                handedOff = thumbnailService.submit(staged, format, thumbnailKey);
+            }
+            
+            log.info("Uploaded image {} ({} bytes, duplicate: {})", key, size, duplicate);
+            return UploadResponse.builder()
+                    .key(key)
+                    .url(storageService.url(key))
+                    .thumbnailUrl(thumbnailExists || handedOff ? storageService.url(thumbnailKey) : null)
+                    .contentType(format.contentType())
+                    .size(size)
+                    .sha256(hash)
+                    .duplicate(duplicate)
+                    .build();
+        } catch (IOException ex) {
+            throw new AppException(ErrorCode.FILE_UPLOAD_FAILED, "Could not store the uploaded file", ex);
+        } finally {
+            if (staged != null && !handedOff) {
+                deleteQuietly(staged);
+            }
+        }
+    }
+    
+    // Copies in bounded chunks through the channel, hashing as the bytes pass by
+    private static long stage(InputStream in, Path target) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+            return position;
+        }
+    }
+    
+    // Two-character fan-out keeps directories (and S3 listings) small
+    private static String key(String prefix, String hash, String extension) {
+        return prefix + "/" + hash.substring(0, 2) + "/" + hash + "." + extension;
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+    
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete {}: {}", file, ex.getMessage());
+        }
+    }
+}
+
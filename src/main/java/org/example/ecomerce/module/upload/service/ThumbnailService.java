@@ -0,0 +1,181 @@
+package org.example.ecomerce.module.upload.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.storage.StorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates thumbnails off the request thread on a small bounded pool, so decoding large
+ * images never competes with request handling for more than a few cores and a burst of
+ * uploads is shed (thumbnail skipped) instead of queued without limit.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+    
+    private final StorageService storageService;
+    private final ThreadPoolExecutor executor;
+    private final int size;
+    private final long maxPixels;
+    
+    public ThumbnailService(
+            StorageService storageService,
+            @Value("${app.upload.thumbnail.size}") int size,
+            @Value("${app.upload.thumbnail.max-pixels}") long maxPixels,
+            @Value("${app.upload.thumbnail.pool-size}") int poolSize,
+            @Value("${app.upload.thumbnail.queue-capacity}") int queueCapacity) {
+        this.storageService = storageService;
+        this.size = size;
+        this.maxPixels = maxPixels;
+        // AbortPolicy: once the queue is full new submissions are rejected (backpressure)
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("thumbnail-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Queues a thumbnail of the source image under the key. On success the task owns the source
+     * file and deletes it when done; false means nothing was queued, because the image exceeds
+     * the pixel limit (checked here from the header) or the pool is saturated.
+     */
+    boolean submit(Path source, ImageFormat format, String key) {
+        try {
+            long pixels = pixelCount(source);
+            if (pixels > maxPixels) {
+                log.info("Image of {} pixels exceeds the thumbnail limit, skipping thumbnail {}", pixels, key);
+                return false;
+            }
+        } catch (IOException ex) {
+            log.warn("Could not read image dimensions, skipping thumbnail {}: {}", key, ex.getMessage());
+            return false;
+        }
+        
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(source, format, key);
+                } catch (Exception ex) {
+                    log.warn("Thumbnail generation failed for {}: {}", key, ex.getMessage());
+                } finally {
+                    deleteQuietly(source);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            log.warn("Thumbnail pool saturated, skipping thumbnail {}", key);
+            return false;
+        }
+    }
+    
+    void generate(Path source, ImageFormat format, String key) throws IOException {
+        BufferedImage image = read(source);
+        Path thumbnail = Files.createTempFile(source.getParent(), "thumbnail-", "." + format.thumbnailFormat());
+        try {
+            if (!ImageIO.write(scale(image, format), format.thumbnailFormat(), thumbnail.toFile())) {
+                throw new IOException("No image writer for " + format.thumbnailFormat());
+            }
+            storageService.store(key, thumbnail, format.thumbnailContentType());
+            log.debug("Stored thumbnail {}", key);
+        } finally {
+            deleteQuietly(thumbnail);
+        }
+    }
+    
+    // Reads only the image header
+    private static long pixelCount(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unreadable image");
+            }
+            
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    // Checks the dimensions before decoding and subsamples large images while decoding, so the
+    // decoded raster stays close to the thumbnail size instead of the full resolution
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unreadable image");
+            }
+            
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image of " + width + "x" + height + " exceeds the pixel limit");
+                }
+                
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    private BufferedImage scale(BufferedImage image, ImageFormat format) {
+        double ratio = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        // JPEG has no alpha channel
+        int type = format == ImageFormat.JPEG ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+    
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete {}: {}", file, ex.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
+
@@ -1,48 +1,116 @@
 package org.example.ecomerce.module.user.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.exception.BadRequestException;
 import org.example.ecomerce.common.response.ApiResponse;
 import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.common.util.ETagUtil;
+import org.example.ecomerce.common.util.PaginationUtil;
+import org.example.ecomerce.module.user.dto.UserImportResponse;
 import org.example.ecomerce.module.user.dto.UserRequest;
 import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.dto.UserSearchRequest;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.service.UserExportService;
+import org.example.ecomerce.module.user.service.UserImportService;
 import org.example.ecomerce.module.user.service.UserService;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
 public class UserController {
     
+    // Each field is backed by an index that ends with id (see User), so sorting never needs a filesort
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "username", "email", "createdAt");
+    
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    
+    @Value("${app.user.export.timeout}")
+    private Duration exportTimeout;
     
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> getAllUsers(
             @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
             @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_BY) String sortBy,
-            @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_DIRECTION) String sortDir
+            @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_DIRECTION) String sortDir,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_WITH_COUNT) boolean withCount
     ) {
-        Sort sort = sortDir.equalsIgnoreCase("asc") 
-                ? Sort.by(sortBy).ascending() 
-                : Sort.by(sortBy).descending();
+        Sort sort = PaginationUtil.sort(sortBy, sortDir, SORTABLE_FIELDS);
         
-        Pageable pageable = PageRequest.of(page, size, sort);
-        PageResponse<UserResponse> users = userService.getAllUsers(pageable);
+        // Cursor mode: "after" (empty for the first page) or "before" switches to keyset pagination
+        PageResponse<UserResponse> users = (after != null || before != null)
+                ? userService.getUsersByCursor(after, before, PaginationUtil.pageSize(size), sort)
+                : userService.getAllUsers(PaginationUtil.pageRequest(page, size, sort), withCount);
         
         return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
     }
     
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> searchUsers(
+            @ModelAttribute UserSearchRequest request,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size
+    ) {
+        // Newest first; id keeps the order stable for rows created in the same instant
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        PageResponse<UserResponse> users = userService.searchUsers(request, PaginationUtil.pageRequest(page, size, sort));
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
+    }
+    
+    @GetMapping("/search/text")
+    public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsersByText(
+            @RequestParam String q,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size
+    ) {
+        List<UserResponse> users = userService.searchUsersByText(q, PaginationUtil.pageSize(size));
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
+    }
+    
+    @PostMapping("/search/text/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuildSearchIndex() {
+        userService.rebuildSearchIndex();
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Search index rebuild started"));
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id, WebRequest webRequest) {
+        // At most one query: a cache hit answers the conditional check and the body alike, and on a
+        // miss the tag comes from the loaded row instead of a separate version lookup
         UserResponse user = userService.getUserById(id);
-        return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", user));
+        if (webRequest.checkNotModified(ETagUtil.toETag(id, user.getVersion()),
+                ETagUtil.toEpochMillis(user.getUpdatedAt()))) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.toETag(user.getId(), user.getVersion()))
+                .body(ApiResponse.success("User retrieved successfully", user));
     }
     
     @GetMapping("/username/{username}")
@@ -59,13 +127,50 @@ public class UserController {
                 .body(ApiResponse.success(AppConstants.CREATED, user));
     }
     
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportUsers(
+            @RequestParam(required = false) User.Role role,
+            @RequestParam(required = false) User.UserStatus status,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+        
+        response.setContentType(csv ? AppConstants.MEDIA_TYPE_CSV : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(csv ? "users.csv" : "users.ndjson").build().toString());
+        
+        // The body is written on the MVC async executor; the export runs in its own read-only transaction.
+        // A WebAsyncTask carries its own timeout, so only this endpoint outlives the default async timeout
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            userExportService.exportUsers(role, status, csv, response.getOutputStream());
+            return null;
+        });
+    }
+    
+    // Streams the raw request body, so large files are not bound by the multipart size limits
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, AppConstants.MEDIA_TYPE_CSV})
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        UserImportResponse result = userImportService.importUsers(body, contentType);
+        return ResponseEntity.ok(ApiResponse.success("Users imported successfully", result));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
             @PathVariable Long id,
-            @Valid @RequestBody UserRequest request
+            @Valid @RequestBody UserRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        UserResponse user = userService.updateUser(id, request);
-        return ResponseEntity.ok(ApiResponse.success(AppConstants.UPDATED, user));
+        UserResponse user = userService.updateUser(id, request, ETagUtil.parseIfMatch(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.toETag(user.getId(), user.getVersion()))
+                .body(ApiResponse.success(AppConstants.UPDATED, user));
     }
     
     @DeleteMapping("/{id}")
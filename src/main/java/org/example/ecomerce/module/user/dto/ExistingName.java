@@ -0,0 +1,12 @@
+package org.example.ecomerce.module.user.dto;
+
+/**
+ * A username or email already present in users, together with whether its row is soft-deleted.
+ * Deleted rows keep their names (and the unique constraints) until they are purged.
+ */
+public interface ExistingName {
+    
+    String getName();
+    
+    Boolean getDeleted();
+}
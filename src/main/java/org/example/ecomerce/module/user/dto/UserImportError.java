@@ -0,0 +1,17 @@
+package org.example.ecomerce.module.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportError {
+    
+    private long line;
+    private String message;
+}
+
@@ -0,0 +1,26 @@
+package org.example.ecomerce.module.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+    
+    private long total;
+    private long imported;
+    private long duplicates;
+    private long invalid;
+    
+    // Only the first AppConstants.MAX_REPORTED_IMPORT_ERRORS errors are reported
+    @Builder.Default
+    private List<UserImportError> errors = new ArrayList<>();
+}
+
@@ -0,0 +1,39 @@
+package org.example.ecomerce.module.user.dto;
+
+import org.example.ecomerce.module.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of {@link User} with exactly the columns {@link UserResponse} exposes.
+ * Queries returning it select these columns only and never hydrate managed entities.
+ */
+public interface UserView {
+    
+    Long getId();
+    
+    String getUsername();
+    
+    String getEmail();
+    
+    String getFirstName();
+    
+    String getLastName();
+    
+    String getPhone();
+    
+    String getAvatar();
+    
+    User.Role getRole();
+    
+    User.UserStatus getStatus();
+    
+    Boolean getEmailVerified();
+    
+    LocalDateTime getCreatedAt();
+    
+    LocalDateTime getUpdatedAt();
+    
+    Long getVersion();
+}
+
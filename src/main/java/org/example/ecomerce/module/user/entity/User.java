@@ -2,10 +2,29 @@ package org.example.ecomerce.module.user.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.ecomerce.common.constant.AppConstants;
 import org.example.ecomerce.common.entity.BaseEntity;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
+// Soft delete: entity queries never see deleted rows and remove() becomes an UPDATE.
+// MySQL has no partial indexes, so "deleted" leads the composite indexes instead.
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = AppConstants.UK_USERS_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = AppConstants.UK_USERS_EMAIL, columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_users_deleted_created_at", columnList = "deleted, created_at, id"),
+        @Index(name = "idx_users_deleted_username_id", columnList = "deleted, username, id"),
+        @Index(name = "idx_users_deleted_email_id", columnList = "deleted, email, id"),
+        @Index(name = "idx_users_deleted_deleted_at", columnList = "deleted, deleted_at"),
+        @Index(name = "idx_users_deleted_role_status_created_at", columnList = "deleted, role, status, created_at"),
+        @Index(name = "idx_users_first_name", columnList = "first_name"),
+        @Index(name = "idx_users_last_name", columnList = "last_name")
+})
+@SQLRestriction("deleted = false")
+@SQLDelete(sql = "UPDATE users SET deleted = true, deleted_at = CURRENT_TIMESTAMP, status = 'DELETED' "
+        + "WHERE id = ? AND version = ?")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,10 +32,10 @@ import org.example.ecomerce.common.entity.BaseEntity;
 @Builder
 public class User extends BaseEntity {
     
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
     
     @Column(nullable = false)
@@ -0,0 +1,23 @@
+package org.example.ecomerce.module.user.event;
+
+import org.example.ecomerce.module.user.dto.UserResponse;
+
+/**
+ * Published by user writes inside the transaction; listeners react after commit.
+ * {@code user} is null when the user was deleted.
+ */
+public record UserChangedEvent(Long userId, UserResponse user) {
+    
+    public static UserChangedEvent saved(UserResponse user) {
+        return new UserChangedEvent(user.getId(), user);
+    }
+    
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(userId, null);
+    }
+    
+    public boolean isDeleted() {
+        return user == null;
+    }
+}
+
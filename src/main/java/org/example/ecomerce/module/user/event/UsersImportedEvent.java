@@ -0,0 +1,13 @@
+package org.example.ecomerce.module.user.event;
+
+import org.example.ecomerce.module.user.dto.UserResponse;
+
+import java.util.List;
+
+/**
+ * Published once per committed import chunk instead of a {@link UserChangedEvent} per row,
+ * so a large import costs listeners one notification per chunk.
+ */
+public record UsersImportedEvent(List<UserResponse> users) {
+}
+
@@ -0,0 +1,15 @@
+package org.example.ecomerce.module.user.mapper;
+
+import org.example.ecomerce.common.mapper.EntityMapper;
+import org.example.ecomerce.common.mapper.MapStructConfig;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.dto.UserView;
+import org.example.ecomerce.module.user.entity.User;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapStructConfig.class)
+public interface UserMapper extends EntityMapper<User, UserResponse> {
+    
+    UserResponse toResponse(UserView view);
+}
+
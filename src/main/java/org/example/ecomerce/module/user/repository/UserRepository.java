@@ -1,11 +1,30 @@
 package org.example.ecomerce.module.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.ecomerce.module.user.dto.ExistingName;
+import org.example.ecomerce.module.user.dto.UserView;
 import org.example.ecomerce.module.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
@@ -19,5 +38,58 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     boolean existsByEmail(String email);
     
     Optional<User> findByUsernameOrEmail(String username, String email);
+    
+    // List paths return the UserView projection: only the response columns are selected
+    // (no password hash) and no entities enter the persistence context
+    Page<UserView> findAllProjectedBy(Pageable pageable);
+    
+    // Offset pagination without the COUNT(*) query
+    Slice<UserView> findSliceBy(Pageable pageable);
+    
+    // Keyset (seek) pagination, constant cost regardless of depth
+    Window<UserView> findWindowBy(ScrollPosition position, Sort sort, Limit limit);
+    
+    // Forward-only cursor for exports; rows are fetched in batches instead of materialized
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.firstName AS firstName, "
+            + "u.lastName AS lastName, u.phone AS phone, u.avatar AS avatar, u.role AS role, u.status AS status, "
+            + "u.emailVerified AS emailVerified, u.createdAt AS createdAt, u.updatedAt AS updatedAt, "
+            + "u.version AS version "
+            + "FROM User u WHERE (:role IS NULL OR u.role = :role) "
+            + "AND (:status IS NULL OR u.status = :status) ORDER BY u.id")
+    Stream<UserView> streamAllByRoleAndStatus(@Param("role") User.Role role, @Param("status") User.UserStatus status);
+    
+    // Set-based duplicate checks for bulk import. Native so soft-deleted rows are included: they
+    // still hold their username/email under the unique constraints until they are purged
+    @Query(value = "SELECT username AS name, deleted AS deleted FROM users WHERE username IN (:usernames)",
+            nativeQuery = true)
+    List<ExistingName> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+    
+    @Query(value = "SELECT email AS name, deleted AS deleted FROM users WHERE email IN (:emails)",
+            nativeQuery = true)
+    List<ExistingName> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    // Soft delete as a single UPDATE by primary key, without loading the entity first. deleted_at
+    // comes from the database clock, like in @SQLDelete and the purge cutoff (currentTimestamp)
+    @Modifying
+    @Query("UPDATE User u SET u.deleted = true, u.deletedAt = LOCAL_DATETIME, u.updatedAt = LOCAL_DATETIME, "
+            + "u.status = :status WHERE u.id = :id AND u.deleted = false")
+    int markDeleted(@Param("id") Long id, @Param("status") User.UserStatus status);
+    
+    default int softDeleteById(Long id) {
+        return markDeleted(id, User.UserStatus.DELETED);
+    }
+    
+    @Query(value = "SELECT CURRENT_TIMESTAMP", nativeQuery = true)
+    LocalDateTime currentTimestamp();
+    
+    // Native queries bypass @SQLRestriction, which is what the purge job needs
+    @Query(value = "SELECT id FROM users WHERE deleted = true AND deleted_at < :cutoff ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id IN (:ids) AND deleted = true", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<Long> ids);
 }
 
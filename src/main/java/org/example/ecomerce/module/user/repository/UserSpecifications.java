@@ -0,0 +1,61 @@
+package org.example.ecomerce.module.user.repository;
+
+import org.example.ecomerce.module.user.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Search predicates for {@link User}. Text filters are left-anchored LIKE patterns on the raw
+ * column (no LOWER()), so they can use the column indexes; MySQL's default collation already
+ * compares case-insensitively.
+ */
+public final class UserSpecifications {
+    
+    private static final char ESCAPE = '\\';
+    
+    private UserSpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+    
+    public static Specification<User> usernameStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("username"), likePrefix(prefix), ESCAPE);
+    }
+    
+    public static Specification<User> emailStartsWith(String prefix) {
+        return (root, query, cb) -> cb.like(root.get("email"), likePrefix(prefix), ESCAPE);
+    }
+    
+    public static Specification<User> nameStartsWith(String prefix) {
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("firstName"), likePrefix(prefix), ESCAPE),
+                cb.like(root.get("lastName"), likePrefix(prefix), ESCAPE));
+    }
+    
+    public static Specification<User> hasRole(User.Role role) {
+        return (root, query, cb) -> cb.equal(root.get("role"), role);
+    }
+    
+    public static Specification<User> hasStatus(User.UserStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+    
+    public static Specification<User> isEmailVerified(boolean emailVerified) {
+        return (root, query, cb) -> cb.equal(root.get("emailVerified"), emailVerified);
+    }
+    
+    public static Specification<User> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+    
+    public static Specification<User> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+    
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
+
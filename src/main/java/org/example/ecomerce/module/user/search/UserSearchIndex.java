@@ -0,0 +1,379 @@
+package org.example.ecomerce.module.user.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.dto.UserView;
+import org.example.ecomerce.module.user.event.UserChangedEvent;
+import org.example.ecomerce.module.user.event.UsersImportedEvent;
+import org.example.ecomerce.module.user.mapper.UserMapper;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over user name, username, email and phone. Writes are applied by a
+ * single background thread from a bounded queue fed after commit, so the request path never
+ * touches the index writer; searches go through a near-real-time {@link SearcherManager}.
+ * <p>
+ * An update that does not fit in the queue is dropped and a full rebuild is scheduled instead.
+ * Rebuilds are written to a separate directory and swapped in only once complete, so a failed
+ * rebuild leaves the current index in place and is retried.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+    
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ALL = "all";
+    private static final int MAX_BATCH = 500;
+    private static final long COMMIT_INTERVAL_MILLIS = 5_000;
+    private static final long REBUILD_RETRY_MILLIS = 30_000;
+    
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path indexDir;
+    private final Path rebuildDir;
+    private final boolean rebuildOnStartup;
+    private final BlockingQueue<IndexOperation> queue;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private Thread worker;
+    private volatile boolean running = true;
+    private long lastCommit = System.currentTimeMillis();
+    private boolean uncommitted;
+    private long nextRebuildAttempt;
+    
+    public UserSearchIndex(UserRepository userRepository, UserMapper userMapper,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.user.search-index.dir}") Path indexDir,
+                           @Value("${app.user.search-index.queue-capacity}") int queueCapacity,
+                           @Value("${app.user.search-index.rebuild-on-startup}") boolean rebuildOnStartup) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexDir = indexDir;
+        this.rebuildDir = indexDir.resolveSibling(indexDir.getFileName() + "-rebuild");
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+    
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(indexDir);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        worker = Thread.ofPlatform().name("user-search-index").daemon().start(this::processQueue);
+        log.info("User search index opened at {} with {} documents", indexDir.toAbsolutePath(),
+                writer.getDocStats().numDocs);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        if (rebuildOnStartup || writer.getDocStats().numDocs == 0) {
+            rebuild();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        IndexOperation operation = event.isDeleted()
+                ? new Delete(event.userId())
+                : new Upsert(event.user());
+        enqueue(operation, "user " + event.userId());
+    }
+    
+    // One queue slot per import chunk, so a bulk import cannot crowd out regular updates
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersImported(UsersImportedEvent event) {
+        enqueue(new UpsertAll(event.users()), event.users().size() + " imported users");
+    }
+    
+    /**
+     * Schedules a full rebuild from the database on the indexing thread. Requests made while
+     * one is pending are merged into it.
+     */
+    public void rebuild() {
+        rebuildRequested.set(true);
+    }
+    
+    private void enqueue(IndexOperation operation, String description) {
+        if (!queue.offer(operation)) {
+            // Never block the writer of the change; the rebuild picks the change up from the database
+            log.warn("User search index queue is full, dropped update for {}, scheduling a rebuild", description);
+            rebuild();
+        }
+    }
+    
+    /**
+     * Returns matching user ids by relevance. Every query term must match a word of the user
+     * as a prefix or, for terms of 3+ characters, within 1-2 edits.
+     */
+    public List<Long> search(String text, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+        
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(scoreDoc.doc).get(FIELD_ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private Query buildQuery(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new PrefixQuery(new Term(FIELD_ALL, term)), 2f), BooleanClause.Occur.SHOULD);
+            if (term.length() >= 3) {
+                int maxEdits = term.length() >= 6 ? 2 : 1;
+                termQuery.add(new FuzzyQuery(new Term(FIELD_ALL, term), maxEdits, 1), BooleanClause.Occur.SHOULD);
+            }
+            query.add(termQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+    
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_ALL, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+    
+    private void processQueue() {
+        List<IndexOperation> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (rebuildRequested.get() && System.currentTimeMillis() >= nextRebuildAttempt) {
+                    rebuildFromDatabase();
+                }
+                
+                IndexOperation first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    for (IndexOperation operation : batch) {
+                        apply(operation);
+                    }
+                    searcherManager.maybeRefresh();
+                }
+                commitIfDue(false);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.error("Failed to apply user search index updates", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void apply(IndexOperation operation) throws IOException {
+        switch (operation) {
+            case Upsert upsert -> writer.updateDocument(idTerm(upsert.user().getId()), toDocument(upsert.user()));
+            case UpsertAll upsertAll -> {
+                for (UserResponse user : upsertAll.users()) {
+                    writer.updateDocument(idTerm(user.getId()), toDocument(user));
+                }
+            }
+            case Delete delete -> writer.deleteDocuments(idTerm(delete.userId()));
+        }
+        uncommitted = true;
+    }
+    
+    private void rebuildFromDatabase() {
+        rebuildRequested.set(false);
+        // Everything queued so far was committed before the database is read below
+        queue.clear();
+        log.info("Rebuilding user search index");
+        
+        try (Directory rebuildDirectory = FSDirectory.open(rebuildDir)) {
+            long count;
+            try (IndexWriter rebuildWriter = new IndexWriter(rebuildDirectory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
+                count = indexAllUsers(rebuildWriter);
+                rebuildWriter.commit();
+            }
+            
+            // Only the swap touches the live index; until then searches use the old one
+            writer.deleteAll();
+            writer.addIndexes(rebuildDirectory);
+            uncommitted = true;
+            commitIfDue(true);
+            searcherManager.maybeRefresh();
+            
+            for (String file : rebuildDirectory.listAll()) {
+                rebuildDirectory.deleteFile(file);
+            }
+            log.info("User search index rebuilt with {} users", count);
+        } catch (IOException | RuntimeException ex) {
+            rebuildRequested.set(true);
+            nextRebuildAttempt = System.currentTimeMillis() + REBUILD_RETRY_MILLIS;
+            log.error("User search index rebuild failed, retrying in {}s", REBUILD_RETRY_MILLIS / 1000, ex);
+        }
+    }
+    
+    private long indexAllUsers(IndexWriter target) {
+        return Objects.requireNonNull(readOnlyTransaction.execute(status -> {
+            long indexed = 0;
+            try (Stream<UserView> users = userRepository.streamAllByRoleAndStatus(null, null)) {
+                for (UserView user : (Iterable<UserView>) users::iterator) {
+                    target.addDocument(toDocument(userMapper.toResponse(user)));
+                    indexed++;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return indexed;
+        }));
+    }
+    
+    // A rebuild that failed during the swap may have left the writer emptied; that state is
+    // never committed, the retry replaces it
+    private void commitIfDue(boolean force) throws IOException {
+        long now = System.currentTimeMillis();
+        if (uncommitted && !rebuildRequested.get() && (force || now - lastCommit >= COMMIT_INTERVAL_MILLIS)) {
+            writer.commit();
+            uncommitted = false;
+            lastCommit = now;
+        }
+    }
+    
+    private static Term idTerm(Long id) {
+        return new Term(FIELD_ID, id.toString());
+    }
+    
+    private static Document toDocument(UserResponse user) {
+        String text = Stream.of(user.getUsername(), user.getEmail(), user.getFirstName(),
+                        user.getLastName(), user.getPhone())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+        
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, user.getId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_ALL, text, Field.Store.NO));
+        return document;
+    }
+    
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        try {
+            searcherManager.close();
+            writer.commit();
+        } finally {
+            writer.close();
+            directory.close();
+        }
+    }
+    
+    private sealed interface IndexOperation permits Upsert, UpsertAll, Delete {
+    }
+    
+    private record Upsert(UserResponse user) implements IndexOperation {
+    }
+    
+    private record UpsertAll(List<UserResponse> users) implements IndexOperation {
+    }
+    
+    private record Delete(Long userId) implements IndexOperation {
+    }
+    
+    // Lowercases and strips diacritics, so "Nguyễn" matches "nguyen"
+    private static final class FoldingAnalyzer extends Analyzer {
+        
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+        
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
+
@@ -0,0 +1,102 @@
+package org.example.ecomerce.module.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Read-through cache for user lookups. Users are stored once by id; the username
+ * cache only maps username to id, so both lookups always resolve to the same entry.
+ * <p>
+ * Writes are ordered by the user's version rather than by arrival: a lookup that read the row
+ * before an update or delete and puts it afterwards cannot replace the newer entry, and a
+ * deleted user leaves a tombstone that no earlier read can overwrite until it expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+    
+    private static final UserResponse DELETED = UserResponse.builder().version(Long.MAX_VALUE).build();
+    
+    private final CacheManager cacheManager;
+    
+    public UserResponse getById(Long id) {
+        UserResponse user = usersById().get(id, UserResponse.class);
+        return user == DELETED ? null : user;
+    }
+    
+    public UserResponse getByUsername(String username) {
+        Long id = userIdsByUsername().get(username, Long.class);
+        if (id == null) {
+            return null;
+        }
+        
+        UserResponse user = getById(id);
+        if (user == null || !username.equals(user.getUsername())) {
+            // Stale mapping (entry expired or username changed), fall back to the database
+            userIdsByUsername().evict(username);
+            return null;
+        }
+        return user;
+    }
+    
+    // Applied after the surrounding transaction commits, and only if no newer version is cached
+    public void put(UserResponse user) {
+        afterCommit(() -> {
+            nativeCache(usersById()).asMap().merge(user.getId(), user, UserCache::newer);
+            nativeCache(userIdsByUsername()).put(user.getUsername(), user.getId());
+        });
+    }
+    
+    // The username mapping is dropped lazily by getByUsername once the id entry is a tombstone
+    public void markDeleted(Long id) {
+        afterCommit(() -> nativeCache(usersById()).put(id, DELETED));
+    }
+    
+    public void evictUsername(String username) {
+        userIdsByUsername().evict(username);
+    }
+    
+    private static UserResponse newer(UserResponse current, UserResponse candidate) {
+        if (current.getVersion() == null) {
+            return candidate;
+        }
+        return candidate.getVersion() != null && candidate.getVersion() > current.getVersion() ? candidate : current;
+    }
+    
+    // The version check has to be atomic, so puts go to the Caffeine caches directly; that bypasses
+    // the transaction-aware decorator, hence the explicit after-commit hook
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+    
+    private Cache usersById() {
+        return Objects.requireNonNull(cacheManager.getCache(AppConstants.CACHE_USERS_BY_ID));
+    }
+    
+    private Cache userIdsByUsername() {
+        return Objects.requireNonNull(cacheManager.getCache(AppConstants.CACHE_USER_IDS_BY_USERNAME));
+    }
+}
+
@@ -0,0 +1,88 @@
+package org.example.ecomerce.module.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.util.CsvUtil;
+import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.dto.UserView;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.mapper.UserMapper;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes users straight from a database cursor to the response stream. Rows are read as
+ * projections, never as managed entities, so memory stays constant regardless of table size.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+    
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "username", "email", "firstName", "lastName", "phone",
+            "role", "status", "emailVerified", "createdAt", "updatedAt");
+    
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final JsonMapper jsonMapper;
+    
+    @Transactional(readOnly = true)
+    public long exportUsers(User.Role role, User.UserStatus status, boolean csv, OutputStream output)
+            throws IOException {
+        log.info("Exporting users as {} with role: {}, status: {}", csv ? "CSV" : "NDJSON", role, status);
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long count = 0;
+        
+        if (csv) {
+            writer.write(CsvUtil.formatLine(CSV_HEADER));
+            writer.write('\n');
+        }
+        
+        try (Stream<UserView> users = userRepository.streamAllByRoleAndStatus(role, status)) {
+            Iterator<UserView> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserResponse response = userMapper.toResponse(iterator.next());
+                
+                writer.write(csv ? toCsvLine(response) : jsonMapper.writeValueAsString(response));
+                writer.write('\n');
+                count++;
+            }
+        }
+        
+        writer.flush();
+        log.info("Exported {} users", count);
+        return count;
+    }
+    
+    private String toCsvLine(UserResponse user) {
+        return CsvUtil.formatLine(Arrays.asList(
+                Objects.toString(user.getId(), null),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getPhone(),
+                Objects.toString(user.getRole(), null),
+                Objects.toString(user.getStatus(), null),
+                Objects.toString(user.getEmailVerified(), null),
+                Objects.toString(user.getCreatedAt(), null),
+                Objects.toString(user.getUpdatedAt(), null)));
+    }
+}
+
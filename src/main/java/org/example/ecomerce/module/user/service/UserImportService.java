@@ -0,0 +1,278 @@
+package org.example.ecomerce.module.user.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.exception.BadRequestException;
+import org.example.ecomerce.common.security.PasswordHashingService;
+import org.example.ecomerce.common.util.CsvUtil;
+import org.example.ecomerce.module.user.dto.ExistingName;
+import org.example.ecomerce.module.user.dto.UserImportError;
+import org.example.ecomerce.module.user.dto.UserImportResponse;
+import org.example.ecomerce.module.user.dto.UserRequest;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.event.UsersImportedEvent;
+import org.example.ecomerce.module.user.mapper.UserMapper;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams NDJSON or CSV user records from the request body and imports them in chunks:
+ * each chunk is validated, de-duplicated with two set-based queries and inserted in its
+ * own transaction through Hibernate JDBC batching. Memory use is bounded by the chunk size.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+    
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.user.import.chunk-size}")
+    private int chunkSize;
+    
+    public UserImportResponse importUsers(InputStream input, MediaType contentType) throws IOException {
+        boolean csv = MediaType.parseMediaType(AppConstants.MEDIA_TYPE_CSV).isCompatibleWith(contentType);
+        log.info("Importing users from {} stream with chunk size: {}", csv ? "CSV" : "NDJSON", chunkSize);
+        
+        UserImportResponse result = new UserImportResponse();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = csv ? readCsvHeader(reader) : null;
+            long lineNumber = csv ? 1 : 0;
+            
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                
+                // Exported CSV quotes fields containing line breaks, so one record may span lines
+                long recordLine = lineNumber;
+                if (csv) {
+                    int quotes = CsvUtil.countQuotes(line);
+                    String next;
+                    while (quotes % 2 != 0 && lineNumber - recordLine < AppConstants.MAX_CSV_RECORD_LINES - 1
+                            && (next = reader.readLine()) != null) {
+                        lineNumber++;
+                        line = line + '\n' + next;
+                        quotes += CsvUtil.countQuotes(next);
+                    }
+                }
+                
+                result.setTotal(result.getTotal() + 1);
+                try {
+                    UserRequest request = csv ? parseCsv(header, line) : jsonMapper.readValue(line, UserRequest.class);
+                    chunk.add(new ImportRow(recordLine, request));
+                } catch (JacksonException | IllegalArgumentException ex) {
+                    reject(result, recordLine, "Malformed record: " + ex.getMessage(), false);
+                }
+                
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+        }
+        
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        
+        log.info("User import finished: {} total, {} imported, {} duplicates, {} invalid",
+                result.getTotal(), result.getImported(), result.getDuplicates(), result.getInvalid());
+        return result;
+    }
+    
+    private void importChunk(List<ImportRow> rows, UserImportResponse result) {
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        Set<String> chunkUsernames = new HashSet<>();
+        Set<String> chunkEmails = new HashSet<>();
+        
+        // Bean validation plus de-duplication inside the chunk itself
+        for (ImportRow row : rows) {
+            Set<ConstraintViolation<UserRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                reject(result, row.line(), message, false);
+            } else if (!chunkUsernames.add(normalize(row.request().getUsername()))) {
+                reject(result, row.line(), "Duplicate username in file", true);
+            } else if (!chunkEmails.add(normalize(row.request().getEmail()))) {
+                reject(result, row.line(), "Duplicate email in file", true);
+            } else {
+                candidates.add(row);
+            }
+        }
+        
+        if (candidates.isEmpty()) {
+            return;
+        }
+        
+        // One IN query per unique column instead of two exists* queries per row. Names of soft-deleted
+        // users stay reserved until the purge job removes the row, so those rows are duplicates too
+        Map<String, Boolean> existingUsernames = normalizeAll(userRepository.findExistingUsernames(
+                candidates.stream().map(row -> row.request().getUsername()).toList()));
+        Map<String, Boolean> existingEmails = normalizeAll(userRepository.findExistingEmails(
+                candidates.stream().map(row -> row.request().getEmail()).toList()));
+        
+        List<ImportRow> accepted = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            Boolean usernameDeleted = existingUsernames.get(normalize(row.request().getUsername()));
+            Boolean emailDeleted = existingEmails.get(normalize(row.request().getEmail()));
+            if (usernameDeleted != null) {
+                reject(result, row.line(),
+                        usernameDeleted ? "Username taken by a deleted user" : "Username already exists", true);
+            } else if (emailDeleted != null) {
+                reject(result, row.line(),
+                        emailDeleted ? "Email taken by a deleted user" : "Email already exists", true);
+            } else {
+                accepted.add(row);
+            }
+        }
+        
+        if (accepted.isEmpty()) {
+            return;
+        }
+        
+        // Hash outside the transaction, in parallel on the hashing pool
+        List<String> encodedPasswords = passwordHashingService.encodeAll(
+                accepted.stream().map(row -> row.request().getPassword()).toList());
+        
+        insert(accepted, encodedPasswords, result);
+    }
+    
+    /**
+     * Inserts the rows in one transaction. A unique violation means a concurrent signup took one
+     * of the names between the lookup and the insert; the rows are then split in halves and
+     * retried, so only the conflicting rows are rejected at the cost of a few extra round trips.
+     */
+    private void insert(List<ImportRow> rows, List<String> encodedPasswords, UserImportResponse result) {
+        // Built per attempt: entities of a rolled-back persist keep their id and version
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            users.add(toUser(rows.get(i).request(), encodedPasswords.get(i)));
+        }
+        
+        try {
+            // Sequence ids + hibernate.jdbc.batch_size turn this into batched INSERTs
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                eventPublisher.publishEvent(new UsersImportedEvent(users.stream().map(userMapper::toResponse).toList()));
+            });
+            result.setImported(result.getImported() + users.size());
+        } catch (DataIntegrityViolationException ex) {
+            if (rows.size() == 1) {
+                log.warn("User import record rejected by a unique constraint: {}", ex.getMostSpecificCause().getMessage());
+                reject(result, rows.getFirst().line(), "Conflicts with a concurrently created user, retry this record", true);
+                return;
+            }
+            
+            int middle = rows.size() / 2;
+            insert(rows.subList(0, middle), encodedPasswords.subList(0, middle), result);
+            insert(rows.subList(middle, rows.size()), encodedPasswords.subList(middle, rows.size()), result);
+        }
+    }
+    
+    private static User toUser(UserRequest request, String encodedPassword) {
+        return User.builder()
+                .username(request.getUsername())
+                .email(request.getEmail())
+                .password(encodedPassword)
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .phone(request.getPhone())
+                .role(User.Role.USER)
+                .status(User.UserStatus.ACTIVE)
+                .emailVerified(false)
+                .build();
+    }
+    
+    private List<String> readCsvHeader(BufferedReader reader) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new BadRequestException("CSV import requires a header row");
+        }
+        return CsvUtil.parseLine(headerLine).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+    
+    private UserRequest parseCsv(List<String> header, String line) {
+        List<String> values = CsvUtil.parseLine(line);
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            record.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        
+        return UserRequest.builder()
+                .username(record.get("username"))
+                .email(record.get("email"))
+                .password(record.get("password"))
+                .firstName(record.get("firstname"))
+                .lastName(record.get("lastname"))
+                .phone(record.get("phone"))
+                .build();
+    }
+    
+    private void reject(UserImportResponse result, long line, String message, boolean duplicate) {
+        if (duplicate) {
+            result.setDuplicates(result.getDuplicates() + 1);
+        } else {
+            result.setInvalid(result.getInvalid() + 1);
+        }
+        if (result.getErrors().size() < AppConstants.MAX_REPORTED_IMPORT_ERRORS) {
+            result.getErrors().add(new UserImportError(line, message));
+        }
+    }
+    
+    // Unique columns compare case-insensitively under the default MySQL collation
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+    
+    // Normalized name -> whether it belongs to a soft-deleted user
+    private static Map<String, Boolean> normalizeAll(List<ExistingName> names) {
+        return names.stream().collect(Collectors.toMap(
+                name -> normalize(name.getName()), name -> Boolean.TRUE.equals(name.getDeleted()),
+                (first, second) -> first && second));
+    }
+    
+    private record ImportRow(long line, UserRequest request) {
+    }
+}
+
@@ -0,0 +1,66 @@
+package org.example.ecomerce.module.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hard-deletes users that were soft-deleted longer than the retention period ago.
+ * Each batch is a short transaction on a handful of primary keys, so row locks stay small.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.user.purge.enabled", havingValue = "true")
+public class UserPurgeJob {
+    
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    
+    public UserPurgeJob(UserRepository userRepository, TransactionTemplate transactionTemplate,
+                        @Value("${app.user.purge.retention}") Duration retention,
+                        @Value("${app.user.purge.batch-size}") int batchSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+    
+    // The cutoff is taken from the database clock, the one deleted_at is written with, so a
+    // skewed application clock cannot purge early
+    @Scheduled(fixedDelayString = "${app.user.purge.interval}", initialDelayString = "${app.user.purge.interval}")
+    public void purgeDeletedUsers() {
+        LocalDateTime cutoff = transactionTemplate.execute(status -> userRepository.currentTimestamp()).minus(retention);
+        long purged = 0;
+        
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = userRepository.findPurgeableIds(cutoff, batchSize);
+                return ids.isEmpty() ? 0 : userRepository.purgeByIds(ids);
+            });
+            
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+            
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        
+        if (purged > 0) {
+            log.info("Purged {} soft-deleted users older than {}", purged, cutoff);
+        }
+    }
+}
+
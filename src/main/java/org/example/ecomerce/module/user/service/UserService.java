@@ -2,19 +2,44 @@ package org.example.ecomerce.module.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
 import org.example.ecomerce.common.exception.BadRequestException;
 import org.example.ecomerce.common.exception.ResourceNotFoundException;
+import org.example.ecomerce.common.logging.LogMarkers;
 import org.example.ecomerce.common.response.PageResponse;
+import org.example.ecomerce.common.security.PasswordHashingService;
+import org.example.ecomerce.common.util.CursorUtil;
+import org.example.ecomerce.common.util.StringUtil;
 import org.example.ecomerce.module.user.dto.UserRequest;
 import org.example.ecomerce.module.user.dto.UserResponse;
+import org.example.ecomerce.module.user.dto.UserSearchRequest;
+import org.example.ecomerce.module.user.dto.UserView;
 import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.event.UserChangedEvent;
+import org.example.ecomerce.module.user.mapper.UserMapper;
 import org.example.ecomerce.module.user.repository.UserRepository;
-import org.modelmapper.ModelMapper;
+import org.example.ecomerce.module.user.repository.UserSpecifications;
+import org.example.ecomerce.module.user.search.UserSearchIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -22,125 +47,295 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserSearchIndex userSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional(readOnly = true)
-    public PageResponse<UserResponse> getAllUsers(Pageable pageable) {
-        log.info("Getting all users with page: {}", pageable.getPageNumber());
+    public PageResponse<UserResponse> getAllUsers(Pageable pageable, boolean withCount) {
+        log.debug(LogMarkers.SAMPLED, "Getting all users with page: {}", pageable.getPageNumber());
         
-        Page<User> userPage = userRepository.findAll(pageable);
+        if (!withCount) {
+            Slice<UserView> userSlice = userRepository.findSliceBy(pageable);
+            return PageResponse.of(userSlice.map(userMapper::toResponse));
+        }
         
-        return PageResponse.<UserResponse>builder()
-                .content(userPage.getContent().stream()
-                        .map(user -> modelMapper.map(user, UserResponse.class))
-                        .toList())
-                .pageNumber(userPage.getNumber())
-                .pageSize(userPage.getSize())
-                .totalElements(userPage.getTotalElements())
-                .totalPages(userPage.getTotalPages())
-                .last(userPage.isLast())
-                .first(userPage.isFirst())
-                .empty(userPage.isEmpty())
-                .build();
+        Page<UserView> userPage = userRepository.findAllProjectedBy(pageable);
+        return PageResponse.of(userPage.map(userMapper::toResponse));
     }
     
+    /**
+     * Combines the given filters. At least one of them must be able to drive an index
+     * (username/email/name prefix, a created-at bound, or role together with status); the rest
+     * only narrow the result. Role alone is not selective enough: it has three values.
+     */
     @Transactional(readOnly = true)
-    public UserResponse getUserById(Long id) {
-        log.info("Getting user by id: {}", id);
+    public PageResponse<UserResponse> searchUsers(UserSearchRequest request, Pageable pageable) {
+        log.debug(LogMarkers.SAMPLED, "Searching users with: {}", request);
         
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        Specification<User> spec = Specification.unrestricted();
+        boolean indexed = false;
+        
+        if (!StringUtil.isNullOrEmpty(request.getUsername())) {
+            spec = spec.and(UserSpecifications.usernameStartsWith(searchPrefix("username", request.getUsername())));
+            indexed = true;
+        }
+        if (!StringUtil.isNullOrEmpty(request.getEmail())) {
+            spec = spec.and(UserSpecifications.emailStartsWith(searchPrefix("email", request.getEmail())));
+            indexed = true;
+        }
+        if (!StringUtil.isNullOrEmpty(request.getName())) {
+            spec = spec.and(UserSpecifications.nameStartsWith(searchPrefix("name", request.getName())));
+            indexed = true;
+        }
+        if (request.getRole() != null) {
+            spec = spec.and(UserSpecifications.hasRole(request.getRole()));
+        }
+        if (request.getCreatedFrom() != null) {
+            spec = spec.and(UserSpecifications.createdFrom(request.getCreatedFrom()));
+            indexed = true;
+        }
+        if (request.getCreatedTo() != null) {
+            spec = spec.and(UserSpecifications.createdBefore(request.getCreatedTo()));
+            indexed = true;
+        }
+        if (request.getStatus() != null) {
+            spec = spec.and(UserSpecifications.hasStatus(request.getStatus()));
+            // (deleted, role, status, created_at) serves the pair, not either column on its own
+            indexed |= request.getRole() != null;
+        }
+        if (request.getEmailVerified() != null) {
+            spec = spec.and(UserSpecifications.isEmailVerified(request.getEmailVerified()));
+        }
+        
+        if (!indexed) {
+            throw new BadRequestException("Search requires at least one of: username, email, name, createdFrom, "
+                    + "createdTo or role together with status; role, status and emailVerified alone can only "
+                    + "narrow a search");
+        }
         
-        return modelMapper.map(user, UserResponse.class);
+        Page<User> userPage = userRepository.findAll(spec, pageable);
+        return PageResponse.of(userPage.map(userMapper::toResponse));
     }
     
-    @Transactional(readOnly = true)
-    public UserResponse getUserByUsername(String username) {
-        log.info("Getting user by username: {}", username);
+    /**
+     * Typo-tolerant search over name, username, email and phone fragments, served by the
+     * in-process index; only the matching rows are then loaded by primary key.
+     */
+    public List<UserResponse> searchUsersByText(String text, int limit) {
+        log.debug(LogMarkers.SAMPLED, "Full-text user search: {}", text);
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        if (StringUtil.isNullOrEmpty(text) || text.trim().length() < AppConstants.MIN_SEARCH_PREFIX_LENGTH) {
+            throw new BadRequestException("Search text requires at least "
+                    + AppConstants.MIN_SEARCH_PREFIX_LENGTH + " characters");
+        }
+        
+        List<Long> ids = userSearchIndex.search(text, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         
-        return modelMapper.map(user, UserResponse.class);
+        // Keep the relevance order; ids deleted since indexing simply drop out
+        Map<Long, Integer> rank = new HashMap<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return userRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(user -> rank.get(user.getId())))
+                .map(userMapper::toResponse)
+                .toList();
     }
     
-    @Transactional
-    public UserResponse createUser(UserRequest request) {
-        log.info("Creating new user with username: {}", request.getUsername());
-        
-        // Check if username exists
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new BadRequestException("Username already exists");
+    public void rebuildSearchIndex() {
+        log.info("User search index rebuild requested");
+        userSearchIndex.rebuild();
+    }
+    
+    private String searchPrefix(String field, String value) {
+        String prefix = value.trim();
+        if (prefix.length() < AppConstants.MIN_SEARCH_PREFIX_LENGTH) {
+            throw new BadRequestException("Search by " + field + " requires at least "
+                    + AppConstants.MIN_SEARCH_PREFIX_LENGTH + " characters");
         }
+        return prefix;
+    }
+    
+    @Transactional(readOnly = true)
+    public PageResponse<UserResponse> getUsersByCursor(String after, String before, int size, Sort sort) {
+        log.debug(LogMarkers.SAMPLED, "Getting users by cursor with size: {}", size);
         
-        // Check if email exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BadRequestException("Email already exists");
+        if (after != null && before != null) {
+            throw new BadRequestException("Only one of 'after' or 'before' can be specified");
         }
         
-        // Create new user
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .firstName(request.getFirstName())
-                .lastName(request.getLastName())
-                .phone(request.getPhone())
-                .role(User.Role.USER)
-                .status(User.UserStatus.ACTIVE)
-                .emailVerified(false)
-                .build();
+        boolean backward = before != null;
+        Sort keysetSort = withIdTieBreaker(sort);
+        KeysetScrollPosition position = backward
+                ? CursorUtil.decode(before, User.class, keysetSort, ScrollPosition.Direction.BACKWARD)
+                : CursorUtil.decode(after, User.class, keysetSort, ScrollPosition.Direction.FORWARD);
+        
+        Window<UserView> window = userRepository.findWindowBy(position, keysetSort, Limit.of(size));
+        List<UserResponse> content = window.getContent().stream()
+                .map(userMapper::toResponse)
+                .toList();
+        
+        String firstCursor = window.isEmpty() ? null : CursorUtil.encode(window.positionAt(0));
+        String lastCursor = window.isEmpty() ? null : CursorUtil.encode(window.positionAt(window.size() - 1));
         
-        User savedUser = userRepository.save(user);
-        log.info("User created successfully with id: {}", savedUser.getId());
+        // In backward mode the window's "next" points further back, towards the first page
+        String nextCursor = backward || window.hasNext() ? lastCursor : null;
+        String previousCursor = backward
+                ? (window.hasNext() ? firstCursor : null)
+                : (position.isInitial() ? null : firstCursor);
         
-        return modelMapper.map(savedUser, UserResponse.class);
+        return PageResponse.<UserResponse>builder()
+                .content(content)
+                .pageSize(size)
+                .nextCursor(nextCursor)
+                .previousCursor(previousCursor)
+                .first(previousCursor == null)
+                .last(nextCursor == null)
+                .empty(content.isEmpty())
+                .build();
     }
     
-    @Transactional
-    public UserResponse updateUser(Long id, UserRequest request) {
-        log.info("Updating user with id: {}", id);
+    // Keyset pagination needs a unique ordering, so the id is always the last sort key
+    private Sort withIdTieBreaker(Sort sort) {
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream()
+                .findFirst()
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, "id"));
+    }
+    
+    // Cached lookups are not @Transactional so a cache hit never borrows a DB connection. A miss
+    // reads in a read-write transaction on purpose: read-only ones may go to a lagging replica
+    // (see ReadWriteRoutingDataSource), and a row from before the latest write would then be cached
+    public UserResponse getUserById(Long id) {
+        log.debug(LogMarkers.SAMPLED, "Getting user by id: {}", id);
         
-        User user = userRepository.findById(id)
+        UserResponse cached = userCache.getById(id);
+        if (cached != null) {
+            return cached;
+        }
+        
+        User user = transactionTemplate.execute(status -> userRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
-        // Check username if changed
-        if (!user.getUsername().equals(request.getUsername()) 
-                && userRepository.existsByUsername(request.getUsername())) {
-            throw new BadRequestException("Username already exists");
-        }
+        UserResponse response = userMapper.toResponse(user);
+        userCache.put(response);
+        return response;
+    }
+    
+    public UserResponse getUserByUsername(String username) {
+        log.debug(LogMarkers.SAMPLED, "Getting user by username: {}", username);
         
-        // Check email if changed
-        if (!user.getEmail().equals(request.getEmail()) 
-                && userRepository.existsByEmail(request.getEmail())) {
-            throw new BadRequestException("Email already exists");
+        UserResponse cached = userCache.getByUsername(username);
+        if (cached != null) {
+            return cached;
         }
         
-        // Update user fields
-        user.setUsername(request.getUsername());
-        user.setEmail(request.getEmail());
-        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-        }
-        user.setFirstName(request.getFirstName());
-        user.setLastName(request.getLastName());
-        user.setPhone(request.getPhone());
+        User user = transactionTemplate.execute(status -> userRepository.findByUsername(username))
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        
+        UserResponse response = userMapper.toResponse(user);
+        userCache.put(response);
+        return response;
+    }
+    
+    // Not @Transactional: the password is hashed first, then a short transaction does the insert
+    public UserResponse createUser(UserRequest request) {
+        log.info("Creating new user with username: {}", request.getUsername());
+        
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
+        
+        // Username/email uniqueness is enforced by the unique constraints on users, so a signup
+        // is a single INSERT; a duplicate surfaces as DataIntegrityViolationException (409).
+        // Soft-deleted users keep their names until purged, so those also answer USER_ALREADY_EXISTS
+        // (or EMAIL_ALREADY_EXISTS) rather than revealing that the account was deleted
+        return transactionTemplate.execute(status -> {
+            // Create new user
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .firstName(request.getFirstName())
+                    .lastName(request.getLastName())
+                    .phone(request.getPhone())
+                    .role(User.Role.USER)
+                    .status(User.UserStatus.ACTIVE)
+                    .emailVerified(false)
+                    .build();
+            
+            User savedUser = userRepository.saveAndFlush(user);
+            log.info("User created successfully with id: {}", savedUser.getId());
+            
+            UserResponse response = userMapper.toResponse(savedUser);
+            userCache.put(response);
+            eventPublisher.publishEvent(UserChangedEvent.saved(response));
+            return response;
+        });
+    }
+    
+    // Not @Transactional: see createUser. expectedVersion comes from If-Match (null = unconditional);
+    // a concurrent update between the read and the flush fails the version check with 409
+    public UserResponse updateUser(Long id, UserRequest request, Long expectedVersion) {
+        log.info("Updating user with id: {}", id);
         
-        User updatedUser = userRepository.save(user);
-        log.info("User updated successfully with id: {}", updatedUser.getId());
+        String encodedPassword = request.getPassword() != null && !request.getPassword().isEmpty()
+                ? passwordHashingService.encode(request.getPassword())
+                : null;
         
-        return modelMapper.map(updatedUser, UserResponse.class);
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+            
+            if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+                throw new AppException(ErrorCode.PRECONDITION_FAILED);
+            }
+            
+            String previousUsername = user.getUsername();
+            
+            // Update user fields
+            user.setUsername(request.getUsername());
+            user.setEmail(request.getEmail());
+            if (encodedPassword != null) {
+                user.setPassword(encodedPassword);
+            }
+            user.setFirstName(request.getFirstName());
+            user.setLastName(request.getLastName());
+            user.setPhone(request.getPhone());
+            
+            // Renames that collide are rejected by the unique constraints (see createUser)
+            User updatedUser = userRepository.saveAndFlush(user);
+            log.info("User updated successfully with id: {}", updatedUser.getId());
+            
+            UserResponse response = userMapper.toResponse(updatedUser);
+            if (!previousUsername.equals(updatedUser.getUsername())) {
+                userCache.evictUsername(previousUsername);
+            }
+            userCache.put(response);
+            eventPublisher.publishEvent(UserChangedEvent.saved(response));
+            return response;
+        });
     }
     
     @Transactional
     public void deleteUser(Long id) {
         log.info("Deleting user with id: {}", id);
         
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+        if (userRepository.softDeleteById(id) == 0) {
+            throw new ResourceNotFoundException("User", "id", id);
+        }
         
-        userRepository.delete(user);
+        userCache.markDeleted(id);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
         log.info("User deleted successfully with id: {}", id);
     }
 }
@@ -0,0 +1,72 @@
+package org.example.ecomerce.module.user.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ecomerce.common.constant.AppConstants;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings the unique keys of existing MySQL databases in line with the names the 409 mapping in
+ * {@code GlobalExceptionHandler} relies on. Databases created before the keys were named still
+ * carry Hibernate's generated {@code UK...} names, which {@code ddl-auto: update} never renames;
+ * it only adds the named key next to them, and MySQL may then report either one. A legacy key is
+ * renamed when the named one is missing and dropped otherwise. Runs after the schema update and
+ * is a no-op once every key has its name, or on other databases (H2 is recreated on each start).
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class UserUniqueKeyMigration {
+    
+    private static final String MYSQL = "MySQL";
+    private static final Map<String, String> KEY_NAMES_BY_COLUMN = Map.of(
+            "username", AppConstants.UK_USERS_USERNAME,
+            "email", AppConstants.UK_USERS_EMAIL
+    );
+    
+    // Single-column unique indexes of users, by column
+    private static final String UNIQUE_KEYS_SQL = "SELECT MIN(column_name) AS column_name, index_name AS index_name "
+            + "FROM information_schema.statistics "
+            + "WHERE table_schema = DATABASE() AND table_name = 'users' AND non_unique = 0 AND index_name <> 'PRIMARY' "
+            + "GROUP BY index_name HAVING COUNT(*) = 1";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void migrate() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!MYSQL.equalsIgnoreCase(database)) {
+            return;
+        }
+        
+        List<Map<String, Object>> keys = jdbcTemplate.queryForList(UNIQUE_KEYS_SQL);
+        KEY_NAMES_BY_COLUMN.forEach((column, name) -> {
+            List<String> indexes = keys.stream()
+                    .filter(key -> column.equalsIgnoreCase(String.valueOf(key.get("column_name"))))
+                    .map(key -> String.valueOf(key.get("index_name")))
+                    .toList();
+            boolean named = indexes.stream().anyMatch(name::equalsIgnoreCase);
+            
+            for (String legacy : indexes.stream().filter(index -> !name.equalsIgnoreCase(index)).toList()) {
+                if (named) {
+                    jdbcTemplate.execute("ALTER TABLE users DROP INDEX `" + legacy + "`");
+                    log.info("Dropped legacy unique key {} on users.{}, {} covers it", legacy, column, name);
+                } else {
+                    jdbcTemplate.execute("ALTER TABLE users RENAME INDEX `" + legacy + "` TO `" + name + "`");
+                    log.info("Renamed legacy unique key {} on users.{} to {}", legacy, column, name);
+                    named = true;
+                }
+            }
+        });
+    }
+}
+
@@ -0,0 +1,99 @@
+package org.example.ecomerce.common.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+    
+    private JdbcTemplate replicaAdmin;
+    private ReplicaSelector replicaSelector;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    
+    @BeforeEach
+    void setUp() {
+        DataSource primary = inMemoryDatabase("primary");
+        DataSource replica = inMemoryDatabase("replica");
+        replicaAdmin = new JdbcTemplate(replica);
+        replicaAdmin.execute("CREATE TABLE replication_lag (seconds BIGINT)");
+        replicaAdmin.update("INSERT INTO replication_lag VALUES (0)");
+        
+        replicaSelector = new ReplicaSelector(Map.of("replica-0", replica),
+                "SELECT seconds FROM replication_lag", "", Duration.ofSeconds(5), Duration.ofHours(1));
+        replicaSelector.checkHealth();
+        
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaSelector.getReplicas(), replicaSelector));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        replicaSelector.close();
+    }
+    
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+    }
+    
+    @Test
+    void statementsOutsideTransactionsGoToPrimary() {
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+    
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaAdmin.update("UPDATE replication_lag SET seconds = 60");
+        replicaSelector.checkHealth();
+        
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+        
+        replicaAdmin.update("UPDATE replication_lag SET seconds = 1");
+        replicaSelector.checkHealth();
+        
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+    
+    @Test
+    void failedHealthCheckFallsBackToPrimary() {
+        replicaAdmin.execute("DROP TABLE replication_lag");
+        replicaSelector.checkHealth();
+        
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    }
+    
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+    
+    private static DataSource inMemoryDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
+
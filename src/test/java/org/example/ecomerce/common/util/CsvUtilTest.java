@@ -0,0 +1,54 @@
+package org.example.ecomerce.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvUtilTest {
+    
+    @Test
+    void splitsPlainFields() {
+        assertThat(CsvUtil.parseLine("alice,alice@example.com,,Nguyen"))
+                .containsExactly("alice", "alice@example.com", "", "Nguyen");
+    }
+    
+    @Test
+    void quotedFieldsMayContainSeparators() {
+        assertThat(CsvUtil.parseLine("\"Nguyen, Van A\",\"\",x"))
+                .containsExactly("Nguyen, Van A", "", "x");
+    }
+    
+    @Test
+    void doubledQuotesInsideQuotedFieldsAreUnescaped() {
+        assertThat(CsvUtil.parseLine("\"say \"\"hi\"\"\",\"\"\"\"\"\""))
+                .containsExactly("say \"hi\"", "\"\"");
+    }
+    
+    @Test
+    void countQuotesKeepsParityAcrossEscapedQuotes() {
+        assertThat(CsvUtil.countQuotes("a,\"open")).isOdd();
+        assertThat(CsvUtil.countQuotes("a,\"say \"\"hi\"\"\",b")).isEven();
+    }
+    
+    @Test
+    void trailingSeparatorYieldsEmptyLastField() {
+        assertThat(CsvUtil.parseLine("a,b,")).containsExactly("a", "b", "");
+    }
+    
+    @Test
+    void rejectsUnterminatedQuote() {
+        assertThatThrownBy(() -> CsvUtil.parseLine("\"open,field"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void formatLineRoundTripsThroughParseLine() {
+        List<String> fields = List.of("plain", "with,comma", "with \"quotes\"", "two\nlines", "");
+        
+        assertThat(CsvUtil.parseLine(CsvUtil.formatLine(fields))).isEqualTo(fields);
+    }
+}
+
@@ -0,0 +1,98 @@
+package org.example.ecomerce.common.util;
+
+import org.example.ecomerce.common.exception.BadRequestException;
+import org.example.ecomerce.module.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilTest {
+    
+    private static final Sort BY_USERNAME = Sort.by("username").and(Sort.by("id"));
+    private static final Sort BY_CREATED_AT = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+    
+    @Test
+    void roundTripsKeysOfEverySupportedType() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_000_000));
+        keys.put("id", 42L);
+        
+        String cursor = CursorUtil.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition position = CursorUtil.decode(cursor, User.class, BY_CREATED_AT, ScrollPosition.Direction.FORWARD);
+        
+        assertThat(position.getKeys()).isEqualTo(keys);
+        assertThat(position.getDirection()).isEqualTo(ScrollPosition.Direction.FORWARD);
+    }
+    
+    @Test
+    void valuesWithSeparatorsSurviveTheRoundTrip() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("username", "a&b=c d%");
+        keys.put("id", 7L);
+        
+        String cursor = CursorUtil.encode(ScrollPosition.backward(keys));
+        KeysetScrollPosition position = CursorUtil.decode(cursor, User.class, BY_USERNAME, ScrollPosition.Direction.BACKWARD);
+        
+        assertThat(position.getKeys()).isEqualTo(keys);
+        assertThat(position.getDirection()).isEqualTo(ScrollPosition.Direction.BACKWARD);
+    }
+    
+    @Test
+    void blankForwardCursorStartsAtTheFirstRow() {
+        assertThat(CursorUtil.decode(null, User.class, BY_USERNAME, ScrollPosition.Direction.FORWARD).isInitial()).isTrue();
+        assertThat(CursorUtil.decode("", User.class, BY_USERNAME, ScrollPosition.Direction.FORWARD).isInitial()).isTrue();
+    }
+    
+    @Test
+    void blankBackwardCursorIsRejected() {
+        assertInvalid(null, BY_USERNAME, ScrollPosition.Direction.BACKWARD);
+    }
+    
+    @Test
+    void rejectsKeysOutsideTheSort() {
+        // A hand-made cursor probing a column that is not part of the sort
+        assertInvalid(token("password=%242a%2410%24abc&id=1"), BY_USERNAME, ScrollPosition.Direction.FORWARD);
+        assertInvalid(token("username=bob&password=x&id=1"), BY_USERNAME, ScrollPosition.Direction.FORWARD);
+    }
+    
+    @Test
+    void rejectsCursorOfAnotherSort() {
+        String cursor = CursorUtil.encode(ScrollPosition.forward(Map.of("username", "bob", "id", 1L)));
+        
+        assertInvalid(cursor, BY_CREATED_AT, ScrollPosition.Direction.FORWARD);
+    }
+    
+    @Test
+    void rejectsMissingAndRepeatedKeys() {
+        assertInvalid(token("username=bob"), BY_USERNAME, ScrollPosition.Direction.FORWARD);
+        assertInvalid(token("username=bob&id=1&id=2"), BY_USERNAME, ScrollPosition.Direction.FORWARD);
+    }
+    
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("not base64!", BY_USERNAME, ScrollPosition.Direction.FORWARD);
+        assertInvalid(token("username"), BY_USERNAME, ScrollPosition.Direction.FORWARD);
+        assertInvalid(token("username=bob&id=abc"), BY_USERNAME, ScrollPosition.Direction.FORWARD);
+        assertInvalid(token("createdAt=yesterday&id=1"), BY_CREATED_AT, ScrollPosition.Direction.FORWARD);
+    }
+    
+    private static void assertInvalid(String cursor, Sort sort, ScrollPosition.Direction direction) {
+        assertThatThrownBy(() -> CursorUtil.decode(cursor, User.class, sort, direction))
+                .isInstanceOf(BadRequestException.class);
+    }
+    
+    private static String token(String plain) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+}
+
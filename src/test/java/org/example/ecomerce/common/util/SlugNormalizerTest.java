@@ -0,0 +1,78 @@
+package org.example.ecomerce.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SlugNormalizer} must produce exactly what {@link StringUtil#toSlug(String)} does, since
+ * existing slugs were generated with the latter.
+ */
+class SlugNormalizerTest {
+    
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {
+            "", "   ", "\t\n",
+            "Wireless Mouse M185",
+            "Áo thun nam cổ tròn tay ngắn màu xanh",
+            "Samsung Galaxy S24 Ultra 512GB - Titanium Black (Chính hãng)",
+            "Điện thoại Đồng hồ thông minh",
+            "ĂÂÊÔƠƯ ăâêôơư ỳýỵỷỹ",
+            "already-a-slug_2024",
+            "  leading and trailing  ",
+            "Crème brûlée à la française",
+            "100% cotton / size: XL & XXL",
+            "\u212Bngstr\u00F6m 5 \u212A", // Angstrom and Kelvin signs decompose to Latin letters
+            "手机 スマートフォン 📱 emoji",
+            "tab\tnewline\nvertical\u000Bform\ffeed\rreturn"
+    })
+    void matchesToSlug(String input) {
+        assertThat(SlugNormalizer.normalize(input)).isEqualTo(StringUtil.toSlug(input));
+    }
+    
+    @Test
+    void matchesToSlugForEveryCodePoint() {
+        List<String> mismatches = new ArrayList<>();
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            String input = "a" + Character.toString(codePoint) + "B";
+            if (!SlugNormalizer.normalize(input).equals(StringUtil.toSlug(input))) {
+                mismatches.add(Integer.toHexString(codePoint));
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+    
+    @Test
+    void matchesToSlugForRandomMixedText() {
+        Random random = new Random(42);
+        for (int n = 0; n < 50_000; n++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(30);
+            for (int i = 0; i < length; i++) {
+                input.append(switch (random.nextInt(4)) {
+                    case 0 -> (char) random.nextInt(0x80);
+                    case 1 -> (char) (0x300 + random.nextInt(0x70)); // combining marks
+                    case 2 -> (char) (0xC0 + random.nextInt(0x1E40)); // Latin supplements and extensions
+                    default -> (char) random.nextInt(0x10000);
+                });
+            }
+            String text = input.toString();
+            assertThat(SlugNormalizer.normalize(text)).as("input %s", text).isEqualTo(StringUtil.toSlug(text));
+        }
+    }
+    
+    @Test
+    void returnsSlugInputAsIs() {
+        String slug = "ao-thun-nam-2";
+        assertThat(SlugNormalizer.normalize(slug)).isSameAs(slug);
+    }
+}
+
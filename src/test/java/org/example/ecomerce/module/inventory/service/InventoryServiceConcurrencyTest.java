@@ -0,0 +1,215 @@
+package org.example.ecomerce.module.inventory.service;
+
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.example.ecomerce.module.inventory.dto.ReservationRequest;
+import org.example.ecomerce.module.inventory.dto.ReservationResponse;
+import org.example.ecomerce.module.inventory.entity.StockReservation;
+import org.example.ecomerce.module.product.dto.ProductRequest;
+import org.example.ecomerce.module.product.dto.ProductResponse;
+import org.example.ecomerce.module.product.entity.Product;
+import org.example.ecomerce.module.product.repository.ProductRepository;
+import org.example.ecomerce.module.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class InventoryServiceConcurrencyTest {
+    
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+    
+    @Autowired
+    private InventoryService inventoryService;
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        int stock = 100;
+        ProductResponse product = createProduct(stock);
+        
+        Queue<ReservationResponse> reserved = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        try {
+                            reserved.add(inventoryService.reserve(new ReservationRequest(product.getId(), 1)));
+                        } catch (AppException ex) {
+                            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_OUT_OF_STOCK);
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        
+        assertThat(reserved).hasSize(stock);
+        assertThat(rejected.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD - stock);
+        
+        ProductResponse soldOut = productService.getProductById(product.getId());
+        assertThat(soldOut.getStock()).isZero();
+        assertThat(soldOut.getStatus()).isEqualTo(Product.ProductStatus.OUT_OF_STOCK);
+        
+        // Releasing one unit puts the product back on sale
+        inventoryService.release(reserved.poll().getId());
+        ProductResponse restocked = productService.getProductById(product.getId());
+        assertThat(restocked.getStock()).isEqualTo(1);
+        assertThat(restocked.getStatus()).isEqualTo(Product.ProductStatus.ACTIVE);
+    }
+    
+    @Test
+    void adminUpdatesDuringReservationsNeverRestoreStock() throws Exception {
+        int stock = 100;
+        ProductResponse product = createProduct(stock);
+        // A client that read the product before checkout started sends its stock back with every update
+        ProductRequest staleUpdate = ProductRequest.builder()
+                .name(product.getName())
+                .description("Updated during checkout")
+                .price(product.getPrice())
+                .stock(stock)
+                .categoryId(product.getCategoryId())
+                .build();
+        
+        Queue<ReservationResponse> reserved = new ConcurrentLinkedQueue<>();
+        AtomicBoolean reserving = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            Future<?> admin = executor.submit(() -> {
+                start.await();
+                while (reserving.get()) {
+                    try {
+                        productService.updateProduct(product.getId(), staleUpdate);
+                    } catch (ObjectOptimisticLockingFailureException ex) {
+                        // Lost the race against a reservation, which is fine
+                    }
+                }
+                return null;
+            });
+            List<Future<?>> buyers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                buyers.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        try {
+                            reserved.add(inventoryService.reserve(new ReservationRequest(product.getId(), 1)));
+                        } catch (AppException ex) {
+                            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_OUT_OF_STOCK);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> buyer : buyers) {
+                buyer.get();
+            }
+            reserving.set(false);
+            admin.get();
+        } finally {
+            executor.shutdown();
+        }
+        
+        // One more update once checkout is over, so at least one is known to have gone through
+        productService.updateProduct(product.getId(), staleUpdate);
+        
+        assertThat(reserved).hasSize(stock);
+        assertThat(productService.getProductById(product.getId()).getStock()).isZero();
+    }
+    
+    @Test
+    void productLoadedBeforeReservationCannotWriteStaleStock() throws Exception {
+        ProductResponse product = createProduct(10);
+        
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Product loaded = productRepository.findById(product.getId()).orElseThrow();
+            runInOtherThread(() -> inventoryService.reserve(new ReservationRequest(product.getId(), 3)));
+            loaded.setDescription("Stale write");
+            productRepository.saveAndFlush(loaded);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        
+        assertThat(productService.getProductById(product.getId()).getStock()).isEqualTo(7);
+    }
+    
+    @Test
+    void committedReservationCannotBeReleased() {
+        ProductResponse product = createProduct(5);
+        ReservationResponse reservation = inventoryService.reserve(new ReservationRequest(product.getId(), 2));
+        
+        ReservationResponse committed = inventoryService.commit(reservation.getId());
+        assertThat(committed.getStatus()).isEqualTo(StockReservation.ReservationStatus.COMMITTED);
+        
+        assertThatThrownBy(() -> inventoryService.release(reservation.getId()))
+                .isInstanceOf(AppException.class)
+                .extracting(ex -> ((AppException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.RESERVATION_NOT_PENDING);
+        assertThat(productService.getProductById(product.getId()).getStock()).isEqualTo(3);
+    }
+    
+    private static void runInOtherThread(Runnable task) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private ProductResponse createProduct(int stock) {
+        return productService.createProduct(ProductRequest.builder()
+                .name("Stress test product " + UUID.randomUUID())
+                .price(new BigDecimal("100000"))
+                .stock(stock)
+                .categoryId(1L)
+                .build());
+    }
+}
+
@@ -0,0 +1,149 @@
+package org.example.ecomerce.module.upload.service;
+
+import org.example.ecomerce.common.constant.ErrorCode;
+import org.example.ecomerce.common.exception.AppException;
+import org.example.ecomerce.common.storage.LocalStorageService;
+import org.example.ecomerce.module.upload.dto.UploadResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageUploadServiceTest {
+    
+    private static final int THUMBNAIL_SIZE = 64;
+    
+    @TempDir
+    Path tempDir;
+    
+    private Path uploadDir;
+    private Path stagingDir;
+    private ThumbnailService thumbnailService;
+    private ImageUploadService uploadService;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadDir = tempDir.resolve("uploads");
+        stagingDir = tempDir.resolve("staging");
+        LocalStorageService storage = new LocalStorageService(uploadDir.toString());
+        thumbnailService = new ThumbnailService(storage, THUMBNAIL_SIZE, 40_000_000L, 1, 10);
+        uploadService = new ImageUploadService(storage, thumbnailService, stagingDir.toString());
+        uploadService.init();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+    
+    @Test
+    void storesImageUnderItsContentHashAndGeneratesThumbnail() throws Exception {
+        UploadResponse upload = uploadService.uploadImage(png("photo.png", 400, 200));
+        
+        assertThat(upload.getKey()).isEqualTo("images/" + upload.getSha256().substring(0, 2)
+                + "/" + upload.getSha256() + ".png");
+        assertThat(upload.getUrl()).isEqualTo("/uploads/" + upload.getKey());
+        assertThat(upload.getDuplicate()).isFalse();
+        assertThat(Files.size(uploadDir.resolve(upload.getKey()))).isEqualTo(upload.getSize());
+        
+        Path thumbnail = uploadDir.resolve(upload.getThumbnailUrl().substring("/uploads/".length()));
+        awaitFile(thumbnail);
+        BufferedImage image = ImageIO.read(thumbnail.toFile());
+        assertThat(image.getWidth()).isEqualTo(THUMBNAIL_SIZE);
+        assertThat(image.getHeight()).isEqualTo(THUMBNAIL_SIZE / 2);
+        awaitEmpty(stagingDir);
+    }
+    
+    @Test
+    void sameContentIsStoredOnce() throws Exception {
+        UploadResponse first = uploadService.uploadImage(png("a.png", 50, 50));
+        awaitFile(uploadDir.resolve(first.getThumbnailUrl().substring("/uploads/".length())));
+        UploadResponse second = uploadService.uploadImage(png("b.png", 50, 50));
+        
+        assertThat(second.getKey()).isEqualTo(first.getKey());
+        assertThat(second.getDuplicate()).isTrue();
+        try (Stream<Path> images = Files.walk(uploadDir.resolve("images"))) {
+            assertThat(images.filter(Files::isRegularFile)).hasSize(1);
+        }
+        awaitEmpty(stagingDir);
+    }
+    
+    @Test
+    void noThumbnailUrlWhenImageExceedsThePixelLimit() throws Exception {
+        LocalStorageService storage = new LocalStorageService(uploadDir.toString());
+        ThumbnailService limitedThumbnails = new ThumbnailService(storage, THUMBNAIL_SIZE, 100L, 1, 10);
+        try {
+            ImageUploadService limitedUploads = new ImageUploadService(storage, limitedThumbnails, stagingDir.toString());
+            limitedUploads.init();
+            
+            UploadResponse upload = limitedUploads.uploadImage(png("large.png", 20, 20));
+            
+            assertThat(upload.getUrl()).isNotNull();
+            assertThat(upload.getThumbnailUrl()).isNull();
+            assertThat(uploadDir.resolve("thumbnails")).doesNotExist();
+            assertThat(stagingDir).isEmptyDirectory();
+        } finally {
+            limitedThumbnails.shutdown();
+        }
+    }
+    
+    @Test
+    void rejectsContentThatIsNotAnImage() {
+        MockMultipartFile file = new MockMultipartFile("file", "fake.png", "image/png", "<html></html>".getBytes());
+        
+        assertThatThrownBy(() -> uploadService.uploadImage(file))
+                .isInstanceOfSatisfying(AppException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_FILE_TYPE));
+        assertThat(uploadDir).doesNotExist();
+    }
+    
+    @Test
+    void rejectsDisallowedContentType() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "image.svg", "image/svg+xml",
+                png("image.png", 10, 10).getBytes());
+        
+        assertThatThrownBy(() -> uploadService.uploadImage(file))
+                .isInstanceOfSatisfying(AppException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_FILE_TYPE));
+    }
+    
+    private static MockMultipartFile png(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("file", name, "image/png", out.toByteArray());
+    }
+    
+    private static void awaitFile(Path file) throws InterruptedException {
+        for (int i = 0; i < 100 && !Files.exists(file); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(file).exists();
+    }
+    
+    private static void awaitEmpty(Path dir) throws Exception {
+        for (int i = 0; i < 100 && isNotEmpty(dir); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(dir).isEmptyDirectory();
+    }
+    
+    private static boolean isNotEmpty(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.findAny().isPresent();
+        }
+    }
+}
+
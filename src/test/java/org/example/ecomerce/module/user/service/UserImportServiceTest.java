@@ -0,0 +1,172 @@
+package org.example.ecomerce.module.user.service;
+
+import jakarta.validation.Validation;
+import org.example.ecomerce.common.security.PasswordHashingService;
+import org.example.ecomerce.module.user.dto.ExistingName;
+import org.example.ecomerce.module.user.dto.UserImportError;
+import org.example.ecomerce.module.user.dto.UserImportResponse;
+import org.example.ecomerce.module.user.entity.User;
+import org.example.ecomerce.module.user.mapper.UserMapper;
+import org.example.ecomerce.module.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserImportServiceTest {
+    
+    private static final String HEADER = "username,email,password,firstName,lastName,phone\n";
+    private static final String PASSWORD = "Secret@123";
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final List<User> inserted = new ArrayList<>();
+    private final Set<String> takenByConcurrentSignup = Set.of("racer");
+    
+    private UserImportService importService;
+    
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(passwordHashingService.encodeAll(anyList())).thenAnswer(invocation -> {
+            List<String> passwords = invocation.getArgument(0);
+            return passwords.stream().map(password -> "{noop}" + password).toList();
+        });
+        // Stands in for the unique constraints: the whole batch fails if any row conflicts
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> takenByConcurrentSignup.contains(user.getUsername()))) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_users_username'");
+            }
+            inserted.addAll(users);
+            return users;
+        }).when(userRepository).saveAll(anyList());
+        
+        importService = new UserImportService(userRepository, mock(UserMapper.class), passwordHashingService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(importService, "chunkSize", 500);
+    }
+    
+    @Test
+    void rejectsDuplicatesInsideTheFileAndAgainstTheDatabase() throws IOException {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of(existing("Bob", false)));
+        
+        UserImportResponse result = importCsv(
+                row("alice", "alice@example.com"),
+                row("bob", "bob@example.com"),
+                row("ALICE", "alice2@example.com"),
+                row("carol", "Alice@Example.com"),
+                row("dave", "not-an-email"),
+                row("erin", "erin@example.com"));
+        
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(3);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(UserImportError::getLine).containsExactlyInAnyOrder(3L, 4L, 5L, 6L);
+        assertThat(inserted).extracting(User::getUsername).containsExactly("alice", "erin");
+    }
+    
+    @Test
+    void uniqueViolationRejectsOnlyTheConflictingRows() throws IOException {
+        UserImportResponse result = importCsv(
+                row("user1", "user1@example.com"),
+                row("user2", "user2@example.com"),
+                row("racer", "racer@example.com"),
+                row("user4", "user4@example.com"),
+                row("user5", "user5@example.com"));
+        
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getInvalid()).isZero();
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getLine()).isEqualTo(4L));
+        assertThat(inserted).extracting(User::getUsername).containsExactly("user1", "user2", "user4", "user5");
+    }
+    
+    @Test
+    void namesOfSoftDeletedUsersAreDuplicatesWithoutAnInsertAttempt() throws IOException {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of(existing("ghost", true)));
+        
+        UserImportResponse result = importCsv(
+                row("ghost", "ghost@example.com"),
+                row("alice", "alice@example.com"));
+        
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("Username taken by a deleted user"));
+        verify(userRepository, times(1)).saveAll(anyList());
+    }
+    
+    @Test
+    void quotedLineBreaksKeepTheRecordTogether() throws IOException {
+        UserImportResponse result = importCsv(
+                "alice,alice@example.com," + PASSWORD + ",\"Nguyen\nVan\",A,\n",
+                row("bob", "bob@example.com"));
+        
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(inserted).extracting(User::getFirstName).containsExactly("Nguyen\nVan", "Nguyen, Van");
+    }
+    
+    @Test
+    void malformedCsvRecordIsCountedAsInvalid() throws IOException {
+        UserImportResponse result = importCsv(
+                row("alice", "alice@example.com"),
+                "\"broken,broken@example.com," + PASSWORD + ",,,\n");
+        
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getInvalid()).isEqualTo(1);
+    }
+    
+    private UserImportResponse importCsv(String... rows) throws IOException {
+        String csv = HEADER + String.join("", rows);
+        return importService.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                MediaType.parseMediaType("text/csv"));
+    }
+    
+    private static ExistingName existing(String name, boolean deleted) {
+        return new ExistingName() {
+            @Override
+            public String getName() {
+                return name;
+            }
+            
+            @Override
+            public Boolean getDeleted() {
+                return deleted;
+            }
+        };
+    }
+    
+    private static String row(String username, String email) {
+        return username + "," + email + "," + PASSWORD + ",\"Nguyen, Van\",A,\n";
+    }
+}
+